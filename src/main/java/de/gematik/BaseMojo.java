@@ -40,6 +40,10 @@ public abstract class BaseMojo extends AbstractMojo {
 
   protected final List<String> apiErrors = new ArrayList<>();
 
+  /** Base directory of the project, the generated files are written relative to it */
+  @Parameter(defaultValue = "${project.basedir}", readonly = true)
+  File baseDir;
+
   /** Path to file that contains the values to combine */
   @Parameter(
       property = "combineItemsFile",
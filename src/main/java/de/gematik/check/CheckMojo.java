@@ -23,6 +23,7 @@ package de.gematik.check;
 import static de.gematik.utils.Utils.getItemAsString;
 import static de.gematik.utils.Utils.getItemsToCombine;
 import static de.gematik.utils.Utils.writeErrors;
+import static de.gematik.utils.jexl.JexlExpressionCache.sharedCache;
 import static java.lang.Boolean.FALSE;
 import static java.lang.String.format;
 import static java.lang.String.join;
@@ -45,14 +46,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.jexl3.MapContext;
 import org.apache.maven.plugin.MojoExecutionException;
-import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -60,11 +58,10 @@ import org.apache.maven.plugins.annotations.Parameter;
 /** Plugin checks api with jexl expression */
 @Setter
 @Getter
-@Mojo(name = "check", defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES)
+@Mojo(name = "check", defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES, threadSafe = true)
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class CheckMojo extends BaseMojo {
 
-  @Setter @Getter private static CheckMojo instance;
   private final ApiRequester apiRequester;
   private final List<String> errors = new ArrayList<>();
 
@@ -93,7 +90,7 @@ public class CheckMojo extends BaseMojo {
       getLog().warn("Check items got skipped due configuration");
       return;
     }
-    setInstance(this);
+    apiRequester.setLog(getLog());
     apiRequester.setupProxy(getProxyHost(), getProxyPort());
     apiRequester.setupTls(
         getTruststore(), getTruststorePw(), getClientCertStore(), getClientCertStorePw());
@@ -101,19 +98,14 @@ public class CheckMojo extends BaseMojo {
     run();
   }
 
-  public static Log getPluginLog() {
-    return instance.getLog();
-  }
-
-  public static final JexlEngine JEXL_ENGINE =
-      new JexlBuilder().strict(true).silent(false).safe(false).create();
-
   @SneakyThrows
   private void run() {
     List<CombineItem> items = getItemsToCombine(new File(getCombineItemsFile()), this, true);
     items.forEach(this::check);
-    writeErrors(getClass().getSimpleName(), apiErrors, "Some requests failed");
-    writeErrors(getClass().getSimpleName(), errors, "Some checks failed");
+    writeErrors(
+        getBaseDir(), getLog(), getClass().getSimpleName(), apiErrors, "Some requests failed");
+    writeErrors(getBaseDir(), getLog(), getClass().getSimpleName(), errors, "Some checks failed");
+    getLog().debug(sharedCache().getStatistics());
     boolean requestsOk = apiErrors.isEmpty() || !isBreakOnFailedRequest();
     boolean checksOk = errors.isEmpty() || !isBreakOnContextError();
     List<String> allErrors =
@@ -141,7 +133,7 @@ public class CheckMojo extends BaseMojo {
               format(
                   "Checking %s with expression \"%s\"",
                   getItemAsString(item), expressionString.replace("\n", "")));
-      expression = JEXL_ENGINE.createExpression(expressionString);
+      expression = sharedCache().expression(expressionString, true);
     } catch (MojoExecutionException | JexlException e) {
       getLog().error(e.getMessage());
       errors.add(e.getMessage());
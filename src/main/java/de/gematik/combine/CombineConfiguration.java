@@ -20,6 +20,9 @@
 
 package de.gematik.combine;
 
+import static de.gematik.BaseMojo.GENERATED_COMBINE_ITEMS_DIR;
+
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,8 +58,20 @@ public class CombineConfiguration {
   private boolean softFilterToHardFilter;
   private boolean countExecutions;
   private List<ExecutionCounter.Format> countExecutionsFormat;
+  @Builder.Default private int parallelism = 1;
+  private boolean incremental;
+  private File baseDir;
+  @Builder.Default
+  private String manifestFile =
+      GENERATED_COMBINE_ITEMS_DIR + File.separator + "combine-manifest.properties";
   private final List<Expression> filterTagExpressions = new CucumberPropertiesParser().parse(CucumberProperties.create()).build().getTagExpressions();
 
+  /** Returns the manifest file, resolved against the base directory if its path is relative */
+  public File resolveManifestFile() {
+    File file = new File(manifestFile);
+    return file.isAbsolute() ? file : new File(baseDir, manifestFile);
+  }
+
   public boolean filterTagsMatch(List<String> tags) {
     return filterTagExpressions.stream().allMatch(expression -> expression.evaluate(tags));
   }
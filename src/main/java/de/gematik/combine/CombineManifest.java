@@ -0,0 +1,121 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Content hashes of the inputs and outputs of an incremental combine run. Stores one hash for all
+ * inputs every template depends on (configuration and combine items) and for each template the
+ * hash of the template and of the generated feature file. A template only has to be generated again
+ * if one of these hashes changed.
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+class CombineManifest {
+
+  /** Hash of an output file that does not exist, e.g. because it contained no scenarios */
+  static final String ABSENT = "absent";
+
+  private static final String INPUTS_KEY = "inputs";
+  private static final String TEMPLATE_PREFIX = "template:";
+  private static final String OUTPUT_PREFIX = "output:";
+
+  private final Properties properties;
+
+  static CombineManifest create(String inputsHash) {
+    CombineManifest manifest = new CombineManifest(new Properties());
+    manifest.properties.setProperty(INPUTS_KEY, inputsHash);
+    return manifest;
+  }
+
+  /** Reads the manifest of the last run, an empty manifest if there is none */
+  static CombineManifest load(File file) throws IOException {
+    Properties properties = new Properties();
+    if (file.isFile()) {
+      try (Reader reader = Files.newReader(file, UTF_8)) {
+        properties.load(reader);
+      }
+    }
+    return new CombineManifest(properties);
+  }
+
+  void store(File file) throws IOException {
+    Files.createParentDirs(file);
+    try (Writer writer = Files.newWriter(file, UTF_8)) {
+      properties.store(writer, "cucumber-test-combinations incremental combine manifest");
+    }
+  }
+
+  static String hash(String content) {
+    return Hashing.sha256().hashString(content, UTF_8).toString();
+  }
+
+  static String hash(File file) throws IOException {
+    return file.isFile() ? Files.asByteSource(file).hash(Hashing.sha256()).toString() : ABSENT;
+  }
+
+  boolean hasInputs(String inputsHash) {
+    return inputsHash.equals(properties.getProperty(INPUTS_KEY));
+  }
+
+  Set<String> getTemplates() {
+    Set<String> templates = new TreeSet<>();
+    for (String key : properties.stringPropertyNames()) {
+      if (key.startsWith(TEMPLATE_PREFIX)) {
+        templates.add(key.substring(TEMPLATE_PREFIX.length()));
+      }
+    }
+    return templates;
+  }
+
+  Optional<String> getTemplateHash(String template) {
+    return Optional.ofNullable(properties.getProperty(TEMPLATE_PREFIX + template));
+  }
+
+  Optional<String> getOutputHash(String template) {
+    return Optional.ofNullable(properties.getProperty(OUTPUT_PREFIX + template));
+  }
+
+  void put(String template, String templateHash, String outputHash) {
+    properties.setProperty(TEMPLATE_PREFIX + template, templateHash);
+    properties.setProperty(OUTPUT_PREFIX + template, outputHash);
+  }
+
+  /** Returns true if the template and its output did not change since the manifest was written */
+  boolean isUpToDate(String template, String templateHash, String outputHash) {
+    return getTemplateHash(template).filter(templateHash::equals).isPresent()
+        && getOutputHash(template).filter(outputHash::equals).isPresent();
+  }
+}
@@ -24,31 +24,49 @@ import static de.gematik.combine.CombineMojo.ErrorType.MINIMAL_TABLE;
 import static de.gematik.combine.CombineMojo.ErrorType.PROPERTY;
 import static de.gematik.combine.CombineMojo.ErrorType.SIZE;
 import static de.gematik.combine.CombineMojo.ErrorType.WARNING;
+import static de.gematik.combine.execution.ProcessingContext.DEFAULT_VERSION_PROPERTY;
 import static de.gematik.combine.tags.parser.AllowDoubleLineupTagParser.ALLOW_DOUBLE_LINEUP_TAG;
 import static de.gematik.combine.tags.parser.AllowSelfCombineTagParser.ALLOW_SELF_COMBINE_TAG;
 import static de.gematik.combine.tags.parser.MinimalTableTagParser.MINIMAL_TABLE_TAG;
+import static de.gematik.combine.tags.parser.PairwiseTagParser.PAIRWISE_TAG;
+import static de.gematik.combine.tags.parser.TWiseTagParser.T_WISE_TAG;
+import static de.gematik.utils.Utils.getEffectiveItemsFile;
 import static de.gematik.utils.Utils.getItemsToCombine;
 import static de.gematik.utils.Utils.writeErrors;
+import static de.gematik.utils.jexl.JexlExpressionCache.sharedCache;
+import static java.lang.Math.max;
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.io.FileUtils.copyDirectory;
+import static org.apache.commons.io.FileUtils.copyFile;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
 import static org.apache.commons.io.FileUtils.listFiles;
 import static org.apache.commons.io.filefilter.DirectoryFileFilter.DIRECTORY;
 import static org.apache.commons.io.filefilter.FileFilterUtils.suffixFileFilter;
+import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
 
 import de.gematik.BaseMojo;
 import de.gematik.combine.count.ExecutionCounter;
 import de.gematik.combine.execution.FileProcessor;
+import de.gematik.combine.execution.ProcessingContext;
 import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.ItemDictionary;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import lombok.Getter;
@@ -58,13 +76,15 @@ import lombok.SneakyThrows;
 import org.apache.commons.io.filefilter.FalseFileFilter;
 import org.apache.commons.io.filefilter.IOFileFilter;
 import org.apache.maven.plugin.MojoExecutionException;
-import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 
 /** Plugin for filling empty gherkin tables with generated combinations */
-@Mojo(name = "prepare-combine", defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES)
+@Mojo(
+    name = "prepare-combine",
+    defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES,
+    threadSafe = true)
 @Setter
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class CombineMojo extends BaseMojo {
@@ -77,12 +97,8 @@ public class CombineMojo extends BaseMojo {
   public static final String MINIMAL_TABLE_ERROR_HEADER =
       "Minimal table should be created and failed. For following apis a valid row could not be generated:\n\t";
 
-  @Getter @Setter private static CombineMojo instance;
-  @Getter private static List<String> tableSizeErrorLog = new ArrayList<>();
-  @Getter private static List<String> minimalTableErrorLog = new ArrayList<>();
-  @Getter private static List<String> propertyErrorLog = new ArrayList<>();
-  @Getter private static List<String> warningsLog = new ArrayList<>();
   private final FileProcessor replacer;
+  private ProcessingContext context;
 
   /** Path to the directory where the rendered templates got stored */
   @Parameter(property = "outputDir", defaultValue = TEST_RESOURCES_DIR + "features")
@@ -174,6 +190,24 @@ public class CombineMojo extends BaseMojo {
   @Parameter(name = "countExecutionsFormat", defaultValue = "json")
   List<String> countExecutionsFormat;
 
+  /**
+   * Number of threads used to process feature files, examples tables and big examples tables. The
+   * generated files and the reported errors do not depend on this value
+   */
+  @Parameter(property = "parallelism", defaultValue = "1")
+  int parallelism;
+
+  /**
+   * Only generate templates again whose content, combine items or configuration changed since the
+   * last run. Unchanged feature files are left untouched
+   */
+  @Parameter(property = "incremental", defaultValue = "false")
+  boolean incremental;
+
+  /** Version of this plugin, templates are generated again in incremental runs if it changed */
+  @Parameter(defaultValue = "${plugin.version}", readonly = true)
+  String pluginVersion;
+
   @Getter
   private ExecutionCounter executionCounter = null;
 
@@ -183,42 +217,73 @@ public class CombineMojo extends BaseMojo {
       getLog().warn("Combine items and generate feature files got skipped due configuration");
       return;
     }
-    setInstance(this);
     doChecks();
-    deleteDirectory(new File(outputDir));
+    if (!incremental) {
+      deleteDirectory(new File(outputDir));
+    }
     execute(getConfiguration());
   }
 
   public void execute(CombineConfiguration config) throws MojoExecutionException {
+    ForkJoinPool pool =
+        config.getParallelism() > 1 ? new ForkJoinPool(config.getParallelism()) : null;
+    context =
+        new ProcessingContext(
+            getLog(), Optional.ofNullable(versionProperty).orElse(DEFAULT_VERSION_PROPERTY), pool);
+    try {
+      execute(config, context);
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+  }
+
+  private void execute(CombineConfiguration config, ProcessingContext context)
+      throws MojoExecutionException {
     String outDir = config.getOutputDir();
     String fileEnding = config.getTemplateFileEnding();
 
     List<CombineItem> itemsToCombine =
         getItemsToCombine(new File(config.getCombineItemFile()), this, true);
+    ItemDictionary.freeze(itemsToCombine);
 
-    copyTemplateFiles(config.getTemplateSources(), outDir, fileEnding);
+    if (config.isIncremental()) {
+      executeIncremental(config, itemsToCombine, context);
+    } else {
+      deleteQuietly(config.resolveManifestFile());
+      copyTemplateFiles(config.getTemplateSources(), outDir, fileEnding, context);
 
-    Collection<File> files = allFiles(outDir, fileEnding);
-    if (files.isEmpty()) {
-      getPluginLog().warn("There are no files to process in " + outDir);
-    }
+      Collection<File> files = allFiles(outDir, fileEnding);
+      if (files.isEmpty()) {
+        context.getLog().warn("There are no files to process in " + outDir);
+      }
 
-    files.stream()
-        .map(file -> stripEnding(file, fileEnding))
-        .forEach(file -> replacer.process(file, config, itemsToCombine));
+      processFiles(
+          files.stream().sorted().map(file -> stripEnding(file, fileEnding, context)).toList(),
+          config,
+          itemsToCombine,
+          context);
+    }
+    logMissingProperties(itemsToCombine, context);
 
     if (config.isCountExecutions()) {
       executionCounter = new ExecutionCounter();
       executionCounter.count(config);
     }
 
+    List<String> tableSizeErrorLog = getTableSizeErrorLog();
+    List<String> minimalTableErrorLog = getMinimalTableErrorLog();
     writeErrors(
+        config.getBaseDir(),
+        getLog(),
         getClass().getSimpleName(),
-        Stream.of(minimalTableErrorLog, tableSizeErrorLog, propertyErrorLog, warningsLog)
+        Stream.of(minimalTableErrorLog, tableSizeErrorLog, getPropertyErrorLog(), getWarningsLog())
             .flatMap(Collection::stream)
             .collect(Collectors.toList()),
         WARN_MESSAGE,
         true);
+    getLog().debug(sharedCache().getStatistics());
     if (config.isBreakIfTableToSmall() && !tableSizeErrorLog.isEmpty()) {
       throw new MojoExecutionException(
           "Scenarios with insufficient examples found -> \n"
@@ -230,6 +295,147 @@ public class CombineMojo extends BaseMojo {
     }
   }
 
+  /**
+   * Generates only the templates whose hash or output changed since the last run recorded in the
+   * manifest. If the configuration or the combine items changed, all templates are generated again.
+   * The manifest is only written if no errors occurred, so they are reported again on the next run.
+   */
+  @SneakyThrows
+  private void executeIncremental(
+      CombineConfiguration config,
+      List<CombineItem> itemsToCombine,
+      ProcessingContext context) {
+    String outDir = config.getOutputDir();
+    String fileEnding = config.getTemplateFileEnding();
+    File manifestFile = config.resolveManifestFile();
+
+    String inputsHash = inputsHash(config);
+    CombineManifest previous = CombineManifest.load(manifestFile);
+    if (!previous.hasInputs(inputsHash)) {
+      context.getLog().info("Configuration or combine items changed, generating all templates");
+      deleteDirectory(new File(outDir));
+      previous = CombineManifest.create(inputsHash);
+    }
+    CombineManifest current = CombineManifest.create(inputsHash);
+
+    Map<String, File> templates = findTemplateFiles(config.getTemplateSources(), fileEnding);
+    for (String removed : previous.getTemplates()) {
+      if (!templates.containsKey(removed)) {
+        deleteQuietly(outputFile(outDir, removed, fileEnding));
+      }
+    }
+
+    Map<String, String> changedTemplateHashes = new TreeMap<>();
+    List<File> changedFiles = new ArrayList<>();
+    for (Map.Entry<String, File> template : templates.entrySet()) {
+      String path = template.getKey();
+      String templateHash = CombineManifest.hash(template.getValue());
+      File output = outputFile(outDir, path, fileEnding);
+      String outputHash = CombineManifest.hash(output);
+      if (previous.isUpToDate(path, templateHash, outputHash)) {
+        current.put(path, templateHash, outputHash);
+        continue;
+      }
+      deleteQuietly(output);
+      File copy = new File(outDir, path);
+      copyFile(template.getValue(), copy);
+      changedFiles.add(stripEnding(copy, fileEnding, context));
+      changedTemplateHashes.put(path, templateHash);
+    }
+    processFiles(changedFiles, config, itemsToCombine, context);
+    for (Map.Entry<String, String> changed : changedTemplateHashes.entrySet()) {
+      String path = changed.getKey();
+      current.put(
+          path, changed.getValue(), CombineManifest.hash(outputFile(outDir, path, fileEnding)));
+    }
+    context
+        .getLog()
+        .info(
+            format(
+                "Generated %d templates, %d unchanged templates skipped",
+                changedFiles.size(), templates.size() - changedFiles.size()));
+
+    if (context.getErrorCount() == 0) {
+      current.store(manifestFile);
+    } else {
+      deleteQuietly(manifestFile);
+    }
+  }
+
+  /**
+   * Processes the files, concurrently on the pool of the execution's {@link ProcessingContext} if
+   * the configured parallelism is greater than one. Each file collects its errors in its own child
+   * of the context, which are reported in the order of the files afterwards.
+   */
+  private void processFiles(
+      List<File> files,
+      CombineConfiguration config,
+      List<CombineItem> itemsToCombine,
+      ProcessingContext context) {
+    List<ProcessingContext> contexts = files.stream().map(file -> context.child()).toList();
+    boolean parallel = context.getParallelism() > 1 && files.size() > 1;
+    context.execute(
+        () -> {
+          IntStream fileIndices = IntStream.range(0, files.size());
+          (parallel ? fileIndices.parallel() : fileIndices)
+              .forEach(
+                  i ->
+                      replacer.process(files.get(i), config, itemsToCombine, contexts.get(i)));
+        });
+    contexts.forEach(fileContext -> fileContext.forEachError(context::appendError));
+  }
+
+  /** Logs each property that was accessed on an item without it once, in the order of the items */
+  private static void logMissingProperties(List<CombineItem> items, ProcessingContext context) {
+    for (CombineItem item : items) {
+      for (String key : item.missingProperties()) {
+        context.getLog().info(format("item %s does not have property %s", item.getValue(), key));
+      }
+    }
+  }
+
+  /**
+   * Hashes every input that affects the content of the generated feature files, one key per line in
+   * a fixed order. Paths, parallelism and the counting of executions do not affect the outputs.
+   */
+  private String inputsHash(CombineConfiguration config) throws IOException {
+    Map<String, Object> inputs = new LinkedHashMap<>();
+    inputs.put(
+        "pluginVersion",
+        Optional.ofNullable(pluginVersion)
+            .orElse(getClass().getPackage().getImplementationVersion()));
+    inputs.put("templateFileEnding", config.getTemplateFileEnding());
+    inputs.put("pluginTagCategory", config.getPluginTagCategory());
+    inputs.put("versionFilterTagCategory", config.getVersionFilterTagCategory());
+    inputs.put("versionProperty", versionProperty);
+    inputs.put("emptyExamplesTags", config.getEmptyExamplesTags());
+    inputs.put("defaultExamplesTags", config.getDefaultExamplesTags());
+    inputs.put("skipTags", config.getSkipTags());
+    inputs.put("filterTagExpressions", config.getFilterTagExpressions());
+    FilterConfiguration filters = config.getFilterConfiguration();
+    if (nonNull(filters)) {
+      inputs.put("allowSelfCombine", filters.isAllowSelfCombine());
+      inputs.put("allowDoubleLineup", filters.isAllowDoubleLineup());
+      inputs.put("maxTableRows", filters.getMaxTableRows());
+      inputs.put("shuffleCombinations", filters.isShuffleCombinations());
+      inputs.put("minimalTable", filters.isMinimalTable());
+      inputs.put("tWise", filters.getTWise());
+    }
+    inputs.put(
+        "projectFilterVersion",
+        nonNull(config.getProjectFilters()) ? config.getProjectFilters().version : null);
+    inputs.put("breakIfTableToSmall", config.isBreakIfTableToSmall());
+    inputs.put("minTableSize", config.getMinTableSize());
+    inputs.put("breakIfMinimalTableError", config.isBreakIfMinimalTableError());
+    inputs.put("softFilterToHardFilter", config.isSoftFilterToHardFilter());
+    File itemsFile = getEffectiveItemsFile(new File(config.getCombineItemFile()), true);
+    inputs.put("combineItems", CombineManifest.hash(itemsFile));
+    return CombineManifest.hash(
+        inputs.entrySet().stream()
+            .map(input -> input.getKey() + "=" + input.getValue())
+            .collect(Collectors.joining("\n")));
+  }
+
   @SneakyThrows
   private void doChecks() {
     for (String dir : templateSources) {
@@ -253,7 +459,12 @@ public class CombineMojo extends BaseMojo {
     }
 
     List<String> forbiddenTags =
-        List.of(ALLOW_DOUBLE_LINEUP_TAG, ALLOW_SELF_COMBINE_TAG, MINIMAL_TABLE_TAG);
+        List.of(
+            ALLOW_DOUBLE_LINEUP_TAG,
+            ALLOW_SELF_COMBINE_TAG,
+            MINIMAL_TABLE_TAG,
+            PAIRWISE_TAG,
+            T_WISE_TAG);
     if (forbiddenTags.stream().anyMatch(tag::contains)) {
       throw new MojoExecutionException(
           format(
@@ -309,19 +520,35 @@ public class CombineMojo extends BaseMojo {
         .softFilterToHardFilter(softFilterToHardFilter)
         .countExecutions(countExecutions)
         .countExecutionsFormat(Optional.ofNullable(countExecutionsFormat).stream().flatMap(List::stream).map(ExecutionCounter.Format::fromString).toList())
-
+        .parallelism(max(1, parallelism))
+        .incremental(incremental)
+        .baseDir(getBaseDir())
         .build();
   }
 
   @SneakyThrows
-  private static void copyTemplateFiles(List<String> from, String to, String ending) {
+  private static void copyTemplateFiles(
+      List<String> from, String to, String ending, ProcessingContext context) {
     File destinationDirectory = new File(to);
     IOFileFilter fileFilter = suffixFileFilter(ending).or(DIRECTORY);
 
-    var foundFiles = new HashMap<String, File>();
+    checkDuplicateTemplateNames(from, fileFilter);
     for (String source : from) {
       File sourceDirectory = new File(source);
-      Collection<File> files = listFiles(sourceDirectory, fileFilter, FalseFileFilter.FALSE);
+      try {
+        copyDirectory(sourceDirectory, destinationDirectory, fileFilter);
+      } catch (FileNotFoundException e) {
+        context.getLog().error(e);
+        throw new MojoExecutionException(e);
+      }
+    }
+  }
+
+  private static void checkDuplicateTemplateNames(List<String> from, IOFileFilter fileFilter)
+      throws MojoExecutionException {
+    var foundFiles = new HashMap<String, File>();
+    for (String source : from) {
+      Collection<File> files = listFiles(new File(source), fileFilter, FalseFileFilter.FALSE);
       for (File file : files) {
         String fileName = file.getName();
         if (foundFiles.containsKey(fileName)) {
@@ -329,20 +556,45 @@ public class CombineMojo extends BaseMojo {
         }
         foundFiles.put(fileName, file);
       }
-      try {
-        copyDirectory(sourceDirectory, destinationDirectory, fileFilter);
-      } catch (FileNotFoundException e) {
-        getPluginLog().error(e);
-        throw new MojoExecutionException(e);
+    }
+  }
+
+  /**
+   * Returns the template files of all sources by their path relative to the source directory. Like
+   * copying the sources one after another, templates of later sources replace those of earlier ones
+   */
+  private static Map<String, File> findTemplateFiles(List<String> from, String ending)
+      throws MojoExecutionException {
+    checkDuplicateTemplateNames(from, suffixFileFilter(ending).or(DIRECTORY));
+    Map<String, File> templates = new TreeMap<>();
+    for (String source : from) {
+      Path sourceDirectory = new File(source).toPath();
+      for (File file : listFiles(sourceDirectory.toFile(), suffixFileFilter(ending), TRUE)) {
+        String path = sourceDirectory.relativize(file.toPath()).toString();
+        templates.put(path.replace(File.separatorChar, '/'), file);
       }
     }
+    return templates;
   }
 
-  public static File stripEnding(File file, String ending) {
-    File dest = new File(file.getAbsolutePath().replace(ending, ""));
+  private static File outputFile(String outDir, String template, String ending) {
+    return withoutEnding(new File(outDir, template), ending);
+  }
+
+  /** Removes the ending from the end of the file name, other occurrences in the path are kept */
+  private static File withoutEnding(File file, String ending) {
+    String path = file.getAbsolutePath();
+    return path.endsWith(ending)
+        ? new File(path.substring(0, path.length() - ending.length()))
+        : file.getAbsoluteFile();
+  }
+
+  public static File stripEnding(File file, String ending, ProcessingContext context) {
+    File dest = withoutEnding(file, ending);
     boolean success = file.renameTo(dest);
     if (!success) {
-      getPluginLog()
+      context
+          .getLog()
           .error("could not rename " + file.getAbsolutePath() + " to " + dest.getAbsolutePath());
     }
     return dest;
@@ -354,27 +606,25 @@ public class CombineMojo extends BaseMojo {
     return listFiles(inputDir, new String[] {ending.replace(".", "")}, true);
   }
 
-  public static Log getPluginLog() {
-    return getInstance().getLog();
+  public List<String> getTableSizeErrorLog() {
+    return getErrors(SIZE);
   }
 
-  public static void appendError(String error, ErrorType type) {
-    if (type == SIZE) {
-      tableSizeErrorLog.add(error);
-    } else if (type == MINIMAL_TABLE) {
-      minimalTableErrorLog.add(error);
-    } else if (type == PROPERTY) {
-      propertyErrorLog.add(error);
-    } else if (type == WARNING) {
-      warningsLog.add("WARNING: " + error);
-    }
+  public List<String> getMinimalTableErrorLog() {
+    return getErrors(MINIMAL_TABLE);
+  }
+
+  public List<String> getPropertyErrorLog() {
+    return getErrors(PROPERTY);
+  }
+
+  public List<String> getWarningsLog() {
+    return getErrors(WARNING).stream().map(warning -> "WARNING: " + warning).toList();
   }
 
-  public static void resetError() {
-    tableSizeErrorLog = new ArrayList<>();
-    minimalTableErrorLog = new ArrayList<>();
-    propertyErrorLog = new ArrayList<>();
-    warningsLog = new ArrayList<>();
+  /** Returns the errors of the last execution of this mojo */
+  private List<String> getErrors(ErrorType type) {
+    return nonNull(context) ? context.getErrors(type) : List.of();
   }
 
   public enum ErrorType {
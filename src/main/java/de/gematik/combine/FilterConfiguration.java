@@ -64,4 +64,12 @@ public class FilterConfiguration {
   @Default
   @Parameter(property = "minimalTable", defaultValue = "false")
   private boolean minimalTable = false;
+
+  /**
+   * Creates a covering table in which every combination of values of any tWise columns appears at
+   * least once (2 = pairwise), 0 creates the full table
+   */
+  @Default
+  @Parameter(property = "tWise", defaultValue = "0")
+  private int tWise = 0;
 }
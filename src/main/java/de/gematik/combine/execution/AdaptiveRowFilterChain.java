@@ -0,0 +1,128 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static java.lang.String.format;
+import static java.util.Comparator.comparingDouble;
+
+import de.gematik.combine.filter.table.row.RowFilter;
+import de.gematik.combine.model.TableCell;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Evaluates row filters as a conjunction and reorders them at runtime. Row filters do not depend on
+ * each other, so their order does not change the result, but evaluating cheap filters that reject
+ * many rows first saves the evaluation of the others.
+ *
+ * <p>The first {@link #SAMPLE_SIZE} rows are evaluated in the given order while the time and the
+ * rejections of each filter are measured. Afterwards the filters are sorted by their expected cost
+ * per rejected row and no further measurements are taken. Filters that were never reached during
+ * sampling keep their relative order after the measured ones.
+ *
+ * <p>A chain is not thread-safe, every search uses its own chains.
+ */
+class AdaptiveRowFilterChain {
+
+  static final int SAMPLE_SIZE = 256;
+
+  private RowFilter[] filters;
+  private final Log log;
+  private final long[] nanos;
+  private final int[] calls;
+  private final int[] rejections;
+  private int sampledRows;
+
+  AdaptiveRowFilterChain(List<RowFilter> filters, Log log) {
+    this.filters = filters.toArray(RowFilter[]::new);
+    this.log = log;
+    this.nanos = new long[this.filters.length];
+    this.calls = new int[this.filters.length];
+    this.rejections = new int[this.filters.length];
+    this.sampledRows = this.filters.length < 2 ? SAMPLE_SIZE : 0;
+  }
+
+  boolean test(List<TableCell> row) {
+    if (sampledRows < SAMPLE_SIZE) {
+      return testAndMeasure(row);
+    }
+    for (RowFilter filter : filters) {
+      if (!filter.test(row)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the filters in their current evaluation order. */
+  List<RowFilter> getFilters() {
+    return List.of(filters);
+  }
+
+  private boolean testAndMeasure(List<TableCell> row) {
+    boolean passed = true;
+    for (int i = 0; i < filters.length && passed; i++) {
+      long start = System.nanoTime();
+      passed = filters[i].test(row);
+      nanos[i] += System.nanoTime() - start;
+      calls[i]++;
+      if (!passed) {
+        rejections[i]++;
+      }
+    }
+    if (++sampledRows == SAMPLE_SIZE) {
+      reorder();
+    }
+    return passed;
+  }
+
+  private void reorder() {
+    List<Integer> measured = new ArrayList<>();
+    List<Integer> unmeasured = new ArrayList<>();
+    IntStream.range(0, filters.length).forEach(i -> (calls[i] > 0 ? measured : unmeasured).add(i));
+    measured.sort(comparingDouble(this::costPerRejection));
+    RowFilter[] ordered =
+        IntStream.concat(
+                measured.stream().mapToInt(i -> i), unmeasured.stream().mapToInt(i -> i))
+            .mapToObj(i -> filters[i])
+            .toArray(RowFilter[]::new);
+    if (!Arrays.equals(filters, ordered)) {
+      log.debug(
+          format(
+              "reordered row filters from %s to %s",
+              Arrays.toString(filters), Arrays.toString(ordered)));
+      filters = ordered;
+    }
+  }
+
+  /**
+   * The average cost of a filter divided by its rejection rate. Filters that never rejected a row
+   * are assumed to reject one row more than measured, so they still are ordered by their cost.
+   */
+  private double costPerRejection(int filter) {
+    double averageNanos = (double) nanos[filter] / calls[filter];
+    double rejectionRate = (rejections[filter] + 1.0) / (calls[filter] + 1.0);
+    return averageNanos / rejectionRate;
+  }
+}
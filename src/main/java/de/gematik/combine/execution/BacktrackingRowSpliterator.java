@@ -0,0 +1,152 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static java.util.stream.Collectors.toList;
+
+import de.gematik.combine.filter.table.row.RowFilter;
+import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Enumerates the cartesian product of prepared columns as a depth-first search over the columns.
+ * Each {@link RowFilter} is evaluated as soon as all columns it requires are filled and the whole
+ * subtree of a failing partial row is skipped. Filters without required columns are evaluated on
+ * complete rows only. The filters of each column are reordered by their measured cost and
+ * selectivity, see {@link AdaptiveRowFilterChain}. Complete rows are emitted as compact {@link
+ * de.gematik.combine.model.TableRow}s of the given schema. Rows are produced in the same order as
+ * {@link com.google.common.collect.Lists#cartesianProduct(List) cartesianProduct} would produce
+ * them.
+ */
+class BacktrackingRowSpliterator extends AbstractSpliterator<List<TableCell>> {
+
+  private final List<List<TableCell>> preparedColumns;
+  private final TableSchema schema;
+  private final int[][] preparedItemIds;
+  private final List<AdaptiveRowFilterChain> filtersByDepth;
+  private final List<List<TableCell>> partialRows;
+  private final TableCell[] row;
+  private final int[] itemIds;
+  private final int[] positions;
+  private int depth;
+
+  BacktrackingRowSpliterator(
+      List<List<TableCell>> preparedColumns,
+      List<? extends RowFilter> rowFilters,
+      TableSchema schema,
+      Log log) {
+    super(Long.MAX_VALUE, ORDERED | NONNULL | IMMUTABLE);
+    this.preparedColumns = preparedColumns;
+    this.schema = schema;
+    this.preparedItemIds = new int[preparedColumns.size()][];
+    for (int i = 0; i < preparedColumns.size(); i++) {
+      preparedItemIds[i] =
+          preparedColumns.get(i).stream()
+              .mapToInt(cell -> schema.itemId(cell.getCombineItem()))
+              .toArray();
+    }
+    this.filtersByDepth =
+        assignFiltersToDepth(rowFilters, schema, preparedColumns.size(), log);
+    this.row = new TableCell[preparedColumns.size()];
+    this.itemIds = new int[preparedColumns.size()];
+    this.positions = new int[preparedColumns.size()];
+    this.partialRows = new ArrayList<>();
+    List<TableCell> rowView = Arrays.asList(row);
+    for (int i = 0; i < row.length; i++) {
+      partialRows.add(rowView.subList(0, i + 1));
+    }
+    this.depth = row.length == 0 ? -1 : 0;
+  }
+
+  private static List<AdaptiveRowFilterChain> assignFiltersToDepth(
+      List<? extends RowFilter> rowFilters, TableSchema schema, int columnCount, Log log) {
+    List<String> columns = schema.getColumns();
+    List<List<RowFilter>> filtersByDepth = new ArrayList<>();
+    for (int i = 0; i < columnCount; i++) {
+      filtersByDepth.add(new ArrayList<>());
+    }
+    if (columnCount == 0) {
+      return List.of();
+    }
+    for (RowFilter rowFilter : rowFilters) {
+      List<String> requiredColumns = rowFilter.getRequiredColumns(columns);
+      int evaluationDepth =
+          requiredColumns.isEmpty()
+              ? columnCount - 1
+              : requiredColumns.stream().mapToInt(columns::indexOf).max().orElseThrow();
+      filtersByDepth
+          .get(evaluationDepth < 0 ? columnCount - 1 : evaluationDepth)
+          .add(rowFilter.forSchema(schema));
+    }
+    return filtersByDepth.stream()
+        .map(filters -> new AdaptiveRowFilterChain(filters, log))
+        .collect(toList());
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super List<TableCell>> action) {
+    if (row.length == 0) {
+      return emitEmptyRowOnce(action);
+    }
+    while (depth >= 0) {
+      List<TableCell> column = preparedColumns.get(depth);
+      if (positions[depth] >= column.size()) {
+        positions[depth] = 0;
+        depth--;
+        if (depth >= 0) {
+          positions[depth]++;
+        }
+        continue;
+      }
+      row[depth] = column.get(positions[depth]);
+      itemIds[depth] = preparedItemIds[depth][positions[depth]];
+      if (!passesFilters(depth)) {
+        positions[depth]++;
+      } else if (depth == row.length - 1) {
+        positions[depth]++;
+        action.accept(schema.row(itemIds.clone()));
+        return true;
+      } else {
+        depth++;
+      }
+    }
+    return false;
+  }
+
+  private boolean passesFilters(int currentDepth) {
+    return filtersByDepth.get(currentDepth).test(partialRows.get(currentDepth));
+  }
+
+  private boolean emitEmptyRowOnce(Consumer<? super List<TableCell>> action) {
+    if (depth == -1) {
+      depth = -2;
+      action.accept(schema.row(new int[0]));
+      return true;
+    }
+    return false;
+  }
+}
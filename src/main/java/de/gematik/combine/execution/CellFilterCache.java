@@ -0,0 +1,94 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import de.gematik.combine.filter.table.cell.CellFilter;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+
+/**
+ * Remembers the results of {@link CellFilter#isCacheable(TableCell, ProcessingContext) cacheable}
+ * cell filters for all tables generated by one {@link TableGenerator}. Equal filters of different
+ * tables share their results, which are stored per filter and column in {@link BitSet}s over item
+ * ids.
+ *
+ * <p>Items are identified by identity, because items with equal values may still differ in their
+ * tags and properties. The cache can be used by multiple threads.
+ */
+class CellFilterCache {
+
+  private final Map<CombineItem, Integer> itemIds = new IdentityHashMap<>();
+  private final Map<FilterKey, Verdicts> verdicts = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  boolean test(CellFilter filter, TableCell cell, ProcessingContext context) {
+    if (!filter.isCacheable(cell, context)) {
+      return filter.test(cell, context);
+    }
+    int itemId = itemId(cell.getCombineItem());
+    Verdicts filterVerdicts =
+        verdicts.computeIfAbsent(new FilterKey(filter, cell.getHeader()), key -> new Verdicts());
+    synchronized (filterVerdicts) {
+      if (filterVerdicts.getEvaluated().get(itemId)) {
+        hits.incrementAndGet();
+        return filterVerdicts.getPassed().get(itemId);
+      }
+    }
+    misses.incrementAndGet();
+    boolean passed = filter.test(cell, context);
+    synchronized (filterVerdicts) {
+      filterVerdicts.getEvaluated().set(itemId);
+      filterVerdicts.getPassed().set(itemId, passed);
+    }
+    return passed;
+  }
+
+  long getHits() {
+    return hits.get();
+  }
+
+  long getMisses() {
+    return misses.get();
+  }
+
+  private synchronized int itemId(CombineItem item) {
+    return itemIds.computeIfAbsent(item, newItem -> itemIds.size());
+  }
+
+  @Value
+  private static class FilterKey {
+    CellFilter filter;
+    String header;
+  }
+
+  @Value
+  private static class Verdicts {
+    BitSet evaluated = new BitSet();
+    BitSet passed = new BitSet();
+  }
+}
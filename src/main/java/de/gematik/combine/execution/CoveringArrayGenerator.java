@@ -0,0 +1,379 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static de.gematik.combine.CombineMojo.ErrorType.WARNING;
+import static java.lang.Math.multiplyExact;
+import static java.lang.String.format;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.joining;
+
+import de.gematik.combine.filter.table.row.RowFilter;
+import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Generates a covering array of strength t for the prepared columns: every combination of values
+ * of any t columns that can be part of a row passing all {@link RowFilter}s appears in at least one
+ * row.
+ *
+ * <p>Rows are built greedily: each row starts with the first uncovered t-tuple and the remaining
+ * columns are filled with the values that cover the most uncovered tuples. Row filters are
+ * evaluated as soon as all their required columns are filled and the row is backtracked if they
+ * fail. Tuples that cannot be part of any valid row are skipped. If the search for a row is aborted
+ * after {@link #MAX_SEARCH_STEPS_PER_ROW} steps, the tuple is reported as warning, because the
+ * table then misses a combination that might be valid.
+ */
+class CoveringArrayGenerator {
+
+  static final int MAX_SEARCH_STEPS_PER_ROW = 100000;
+  private static final int UNASSIGNED = -1;
+  private static final int MAX_REPORTED_TUPLES = 10;
+
+  private final List<List<TableCell>> preparedColumns;
+  private final TableSchema schema;
+  private final List<RowFilter> rowFilters = new ArrayList<>();
+  private final List<BitSet> requiredColumns = new ArrayList<>();
+  private final int[][] combinations;
+  private final int[][] radices;
+  private final List<List<Integer>> combinationsByColumn = new ArrayList<>();
+  private final BitSet[] uncovered;
+  private final int[] assignment;
+  private final int maxSearchSteps;
+  private final ProcessingContext context;
+  private int searchSteps;
+
+  CoveringArrayGenerator(
+      List<List<TableCell>> preparedColumns,
+      List<? extends RowFilter> rowFilters,
+      TableSchema schema,
+      int strength,
+      ProcessingContext context) {
+    this(preparedColumns, rowFilters, schema, strength, MAX_SEARCH_STEPS_PER_ROW, context);
+  }
+
+  CoveringArrayGenerator(
+      List<List<TableCell>> preparedColumns,
+      List<? extends RowFilter> rowFilters,
+      TableSchema schema,
+      int strength,
+      int maxSearchSteps,
+      ProcessingContext context) {
+    this.preparedColumns = preparedColumns;
+    this.maxSearchSteps = maxSearchSteps;
+    this.context = context;
+    this.schema = schema;
+    this.assignment = new int[preparedColumns.size()];
+    for (RowFilter rowFilter : rowFilters) {
+      this.rowFilters.add(rowFilter.forSchema(schema));
+      this.requiredColumns.add(requiredColumns(rowFilter, schema.getColumns()));
+    }
+    this.combinations = combinations(preparedColumns.size(), strength);
+    this.radices = new int[combinations.length][];
+    this.uncovered = new BitSet[combinations.length];
+    for (int i = 0; i < preparedColumns.size(); i++) {
+      combinationsByColumn.add(new ArrayList<>());
+    }
+    for (int c = 0; c < combinations.length; c++) {
+      radices[c] = radices(combinations[c]);
+      for (int column : combinations[c]) {
+        combinationsByColumn.get(column).add(c);
+      }
+    }
+  }
+
+  private BitSet requiredColumns(RowFilter rowFilter, List<String> columns) {
+    BitSet required = new BitSet();
+    rowFilter.getRequiredColumns(columns).stream()
+        .mapToInt(columns::indexOf)
+        .filter(i -> i >= 0)
+        .forEach(required::set);
+    if (required.isEmpty()) {
+      required.set(0, preparedColumns.size());
+    }
+    return required;
+  }
+
+  private static int[][] combinations(int columnCount, int strength) {
+    List<int[]> result = new ArrayList<>();
+    int[] combination = IntStream.range(0, strength).toArray();
+    while (true) {
+      result.add(combination.clone());
+      int i = strength - 1;
+      while (i >= 0 && combination[i] == columnCount - strength + i) {
+        i--;
+      }
+      if (i < 0) {
+        return result.toArray(int[][]::new);
+      }
+      combination[i]++;
+      for (int j = i + 1; j < strength; j++) {
+        combination[j] = combination[j - 1] + 1;
+      }
+    }
+  }
+
+  private int[] radices(int[] combination) {
+    int[] radix = new int[combination.length];
+    int product = 1;
+    for (int k = combination.length - 1; k >= 0; k--) {
+      radix[k] = product;
+      try {
+        product = multiplyExact(product, preparedColumns.get(combination[k]).size());
+      } catch (ArithmeticException e) {
+        throw new IllegalArgumentException(
+            format("too many value combinations for columns %s", Arrays.toString(combination)), e);
+      }
+    }
+    return radix;
+  }
+
+  List<List<TableCell>> generate() {
+    initUncoveredTuples();
+    List<List<TableCell>> rows = new ArrayList<>();
+    int uncoverable = 0;
+    List<String> abortedTuples = new ArrayList<>();
+    for (int c = 0; c < combinations.length; c++) {
+      for (int tuple = uncovered[c].nextSetBit(0);
+          tuple >= 0;
+          tuple = uncovered[c].nextSetBit(tuple + 1)) {
+        if (buildRow(c, tuple)) {
+          rows.add(toRow());
+          markCovered();
+        } else {
+          uncovered[c].clear(tuple);
+          if (searchSteps > maxSearchSteps) {
+            abortedTuples.add(describeTuple(c, tuple));
+          } else {
+            uncoverable++;
+          }
+        }
+      }
+    }
+    context
+        .getLog()
+        .debug(
+            format(
+                "created covering array with %d rows, %d tuples can not be part of a valid row",
+                rows.size(), uncoverable));
+    if (!abortedTuples.isEmpty()) {
+      reportAbortedTuples(abortedTuples);
+    }
+    return rows;
+  }
+
+  private String describeTuple(int c, int tuple) {
+    assignTuple(c, tuple);
+    return Arrays.stream(combinations[c])
+        .mapToObj(
+            column ->
+                format(
+                    "%s=%s",
+                    schema.getColumns().get(column),
+                    preparedColumns.get(column).get(assignment[column]).getValue()))
+        .collect(joining(", ", "[", "]"));
+  }
+
+  private void reportAbortedTuples(List<String> abortedTuples) {
+    String listed =
+        abortedTuples.stream().limit(MAX_REPORTED_TUPLES).collect(joining(", "))
+            + (abortedTuples.size() > MAX_REPORTED_TUPLES ? ", ..." : "");
+    context.appendError(
+        format(
+            "Covering table for scenario \"%s\" misses %d combinations, "
+                + "no row was found within %d search steps: %s",
+            context.getScenarioName(), abortedTuples.size(), maxSearchSteps, listed),
+        WARNING);
+  }
+
+  private void initUncoveredTuples() {
+    for (int c = 0; c < combinations.length; c++) {
+      int tupleCount = radices[c][0] * preparedColumns.get(combinations[c][0]).size();
+      uncovered[c] = new BitSet(tupleCount);
+      uncovered[c].set(0, tupleCount);
+      BitSet combinationColumns = toBitSet(combinations[c]);
+      List<RowFilter> tupleFilters = new ArrayList<>();
+      for (int f = 0; f < rowFilters.size(); f++) {
+        if (isSubset(requiredColumns.get(f), combinationColumns)) {
+          tupleFilters.add(rowFilters.get(f));
+        }
+      }
+      if (!tupleFilters.isEmpty()) {
+        removeInvalidTuples(c, tupleFilters);
+      }
+    }
+  }
+
+  private void removeInvalidTuples(int c, List<RowFilter> tupleFilters) {
+    for (int tuple = uncovered[c].nextSetBit(0);
+        tuple >= 0;
+        tuple = uncovered[c].nextSetBit(tuple + 1)) {
+      assignTuple(c, tuple);
+      List<TableCell> partialRow = partialRow();
+      if (!tupleFilters.stream().allMatch(f -> f.test(partialRow))) {
+        uncovered[c].clear(tuple);
+      }
+    }
+  }
+
+  private boolean buildRow(int c, int tuple) {
+    assignTuple(c, tuple);
+    int[] freeColumns =
+        IntStream.range(0, assignment.length).filter(i -> assignment[i] == UNASSIGNED).toArray();
+    searchSteps = 0;
+    return fillColumns(freeColumns, 0);
+  }
+
+  private void assignTuple(int c, int tuple) {
+    Arrays.fill(assignment, UNASSIGNED);
+    int[] combination = combinations[c];
+    for (int k = 0; k < combination.length; k++) {
+      int size = preparedColumns.get(combination[k]).size();
+      assignment[combination[k]] = tuple / radices[c][k] % size;
+    }
+  }
+
+  private boolean fillColumns(int[] freeColumns, int index) {
+    if (index == freeColumns.length) {
+      return true;
+    }
+    int column = freeColumns[index];
+    for (int value : valuesByGain(column)) {
+      if (++searchSteps > maxSearchSteps) {
+        break;
+      }
+      assignment[column] = value;
+      if (passesFilters(column) && fillColumns(freeColumns, index + 1)) {
+        return true;
+      }
+    }
+    assignment[column] = UNASSIGNED;
+    return false;
+  }
+
+  /** Orders the values of a column by the number of uncovered tuples they would cover. */
+  private Integer[] valuesByGain(int column) {
+    int size = preparedColumns.get(column).size();
+    int[] gains = new int[size];
+    for (int c : combinationsByColumn.get(column)) {
+      if (!othersAssigned(combinations[c], column)) {
+        continue;
+      }
+      int baseIndex = 0;
+      int columnRadix = 0;
+      for (int k = 0; k < combinations[c].length; k++) {
+        if (combinations[c][k] == column) {
+          columnRadix = radices[c][k];
+        } else {
+          baseIndex += assignment[combinations[c][k]] * radices[c][k];
+        }
+      }
+      for (int value = 0; value < size; value++) {
+        if (uncovered[c].get(baseIndex + value * columnRadix)) {
+          gains[value]++;
+        }
+      }
+    }
+    Integer[] values = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+    Arrays.sort(values, comparingInt(value -> -gains[value]));
+    return values;
+  }
+
+  private boolean othersAssigned(int[] combination, int column) {
+    for (int other : combination) {
+      if (other != column && assignment[other] == UNASSIGNED) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean passesFilters(int assignedColumn) {
+    List<TableCell> partialRow = null;
+    for (int f = 0; f < rowFilters.size(); f++) {
+      BitSet required = requiredColumns.get(f);
+      if (required.get(assignedColumn) && allAssigned(required)) {
+        if (partialRow == null) {
+          partialRow = partialRow();
+        }
+        if (!rowFilters.get(f).test(partialRow)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean allAssigned(BitSet columns) {
+    for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+      if (assignment[i] == UNASSIGNED) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void markCovered() {
+    for (int c = 0; c < combinations.length; c++) {
+      int tuple = 0;
+      for (int k = 0; k < combinations[c].length; k++) {
+        tuple += assignment[combinations[c][k]] * radices[c][k];
+      }
+      uncovered[c].clear(tuple);
+    }
+  }
+
+  private List<TableCell> partialRow() {
+    List<TableCell> row = new ArrayList<>(assignment.length);
+    for (int column = 0; column < assignment.length; column++) {
+      if (assignment[column] != UNASSIGNED) {
+        row.add(preparedColumns.get(column).get(assignment[column]));
+      }
+    }
+    return row;
+  }
+
+  private List<TableCell> toRow() {
+    int[] itemIds = new int[assignment.length];
+    for (int column = 0; column < assignment.length; column++) {
+      itemIds[column] =
+          schema.itemId(preparedColumns.get(column).get(assignment[column]).getCombineItem());
+    }
+    return schema.row(itemIds);
+  }
+
+  private static BitSet toBitSet(int[] columns) {
+    BitSet bitSet = new BitSet();
+    Arrays.stream(columns).forEach(bitSet::set);
+    return bitSet;
+  }
+
+  private static boolean isSubset(BitSet subset, BitSet set) {
+    BitSet remaining = (BitSet) subset.clone();
+    remaining.andNot(set);
+    return remaining.isEmpty();
+  }
+}
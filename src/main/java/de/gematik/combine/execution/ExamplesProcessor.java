@@ -21,8 +21,6 @@
 package de.gematik.combine.execution;
 
 import static de.gematik.combine.CombineMojo.ErrorType.WARNING;
-import static de.gematik.combine.CombineMojo.appendError;
-import static de.gematik.combine.CombineMojo.getPluginLog;
 import static de.gematik.combine.FilterTagMapper.filterToTag;
 import static de.gematik.combine.FilterTagMapper.getTagName;
 import static java.lang.String.format;
@@ -51,6 +49,7 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.maven.plugin.logging.Log;
 
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class ExamplesProcessor {
@@ -58,12 +57,13 @@ public class ExamplesProcessor {
   private static final Location LOCATION = new Location(0L, 0L);
   private final TagParser tagParser;
   private final TableGenerator tableGenerator;
+  private final GeneratedTableCache generatedTables = new GeneratedTableCache();
 
   public void process(
       Examples gherkinExample,
       CombineConfiguration config,
       List<CombineItem> combineItems,
-      String scenarioName) {
+      ProcessingContext context) {
 
     if (!config.getDefaultExamplesTags().isEmpty()) {
       addDefaultTags(gherkinExample, config.getDefaultExamplesTags());
@@ -72,16 +72,18 @@ public class ExamplesProcessor {
     List<String> headers = extractHeaders(gherkinExample);
     List<String> tagStrings = extractTagStrings(gherkinExample);
 
-    ParsedTags parsedTags = tagParser.parseTags(tagStrings, headers);
-    generateTable(gherkinExample, config, combineItems, parsedTags, true);
+    ParsedTags parsedTags = tagParser.parseTags(tagStrings, headers, context.getLog());
+    generateTable(
+        gherkinExample, config, combineItems, headers, tagStrings, parsedTags, true, context);
     boolean tableToSmall = gherkinExample.getTableBody().size() < config.getMinTableSize();
     if (tableToSmall && !config.isSoftFilterToHardFilter() && parsedTags.containSoftFilter()) {
-      appendError(
+      context.appendError(
           format(
               "For scenario \"%s\" no table could be generated. Going to retry without SoftFilter",
-              scenarioName),
+              context.getScenarioName()),
           WARNING);
-      generateTable(gherkinExample, config, combineItems, parsedTags, false);
+      generateTable(
+          gherkinExample, config, combineItems, headers, tagStrings, parsedTags, false, context);
     }
     addPluginTagPrefixes(gherkinExample, config);
   }
@@ -90,14 +92,23 @@ public class ExamplesProcessor {
       Examples gherkinExample,
       CombineConfiguration config,
       List<CombineItem> combineItems,
+      List<String> headers,
+      List<String> tagStrings,
       ParsedTags parsedTags,
-      boolean softFilterShouldApply) {
+      boolean softFilterShouldApply,
+      ProcessingContext context) {
 
     ConfiguredFilters filters = parsedTags.configureFilters(config, softFilterShouldApply);
 
-    List<List<TableCell>> filteredTable = generateTable(combineItems, filters);
+    GeneratedTableCache.Key key =
+        new GeneratedTableCache.Key(
+            headers, tagStrings, softFilterShouldApply, config, combineItems);
+    boolean shuffled = filters.getActualConfig().isShuffleCombinations() || filters.isShuffled();
+    List<List<TableCell>> filteredTable =
+        generatedTables.getOrGenerate(
+            key, !shuffled, context, () -> generateTable(combineItems, filters, context));
 
-    getPluginLog().debug("converting table to gherkin format");
+    context.getLog().debug("converting table to gherkin format");
     List<TableRow> gherkinTable =
         filteredTable.stream().map(ExamplesProcessor::toTableRow).collect(toList());
 
@@ -106,26 +117,30 @@ public class ExamplesProcessor {
   }
 
   private List<List<TableCell>> generateTable(
-      List<CombineItem> combineItems, ConfiguredFilters filters) {
+      List<CombineItem> combineItems, ConfiguredFilters filters, ProcessingContext context) {
 
-    List<List<TableCell>> baseTable = generateBaseTable(combineItems, filters);
+    List<List<TableCell>> baseTable = generateBaseTable(combineItems, filters, context);
 
-    return filterTable(baseTable, filters);
+    return filterTable(baseTable, filters, context.getLog());
   }
 
   private List<List<TableCell>> filterTable(
-      List<List<TableCell>> baseTable, ConfiguredFilters filters) {
-    List<TableFilter> tableFilters = new ArrayList<>(filters.getTableFilters());
-    tableFilters.addAll(filters.getTableRowFilters());
+      List<List<TableCell>> baseTable, ConfiguredFilters filters, Log log) {
+    List<TableFilter> tableFilters = filters.getSortedTableFilters();
 
-    getPluginLog().debug(format("applying %d filters: %s", tableFilters.size(), tableFilters));
+    log.debug(format("applying %d table filters: %s", tableFilters.size(), tableFilters));
 
-    return filters.combineAllFilters().apply(baseTable);
+    List<List<TableCell>> table = baseTable;
+    for (TableFilter tableFilter : tableFilters) {
+      log.debug(format("applying %s on %d rows", tableFilter, table.size()));
+      table = tableFilter.apply(table);
+    }
+    return table;
   }
 
   private List<List<TableCell>> generateBaseTable(
-      List<CombineItem> combineItems, ConfiguredFilters filters) {
-    return tableGenerator.generateTable(combineItems, filters);
+      List<CombineItem> combineItems, ConfiguredFilters filters, ProcessingContext context) {
+    return tableGenerator.generateTable(combineItems, filters, context);
   }
 
   @SneakyThrows
@@ -20,7 +20,6 @@
 
 package de.gematik.combine.execution;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
 import static io.cucumber.gherkin.utils.pretty.Pretty.prettyPrint;
 import static io.cucumber.messages.types.SourceMediaType.TEXT_X_CUCUMBER_GHERKIN_PLAIN;
 import static java.nio.file.Files.delete;
@@ -28,7 +27,7 @@ import static java.nio.file.Files.readString;
 import static java.nio.file.Files.writeString;
 
 import de.gematik.combine.CombineConfiguration;
-import de.gematik.combine.CombineMojo;
+import de.gematik.combine.CombineMojo.ErrorType;
 import de.gematik.combine.model.CombineItem;
 import io.cucumber.gherkin.GherkinParser;
 import io.cucumber.gherkin.utils.pretty.Syntax;
@@ -43,6 +42,7 @@ import java.util.List;
 import javax.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.maven.plugin.logging.Log;
 
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class FileProcessor {
@@ -50,35 +50,41 @@ public class FileProcessor {
   private final GherkinProcessor gherkinProcessor;
 
   @SneakyThrows
-  public void process(File file, CombineConfiguration config, List<CombineItem> combineItems) {
-    getPluginLog().info("processing: " + file.getName());
-    getPluginLog().debug("file: " + file.getAbsolutePath());
+  public void process(
+      File file,
+      CombineConfiguration config,
+      List<CombineItem> combineItems,
+      ProcessingContext context) {
+    Log log = context.getLog();
+    log.info("processing: " + file.getName());
+    log.debug("file: " + file.getAbsolutePath());
 
     final String oldContent = readString(file.toPath());
 
     GherkinDocument gherkinDocument;
     try {
       gherkinDocument = parseGherkinString(file.toURI().toString(), oldContent);
-      getPluginLog().debug("parsed gherkin from: " + file.getAbsolutePath());
+      log.debug("parsed gherkin from: " + file.getAbsolutePath());
     } catch (IllegalArgumentException e) {
-      CombineMojo.appendError(e.getMessage(), CombineMojo.ErrorType.WARNING);
+      context.appendError(e.getMessage(), ErrorType.WARNING);
       gherkinDocument = null;
     }
 
     int numberOfScenarios = 0;
     if (gherkinDocument != null) {
-      numberOfScenarios = gherkinProcessor.generateExamples(gherkinDocument, config, combineItems);
+      numberOfScenarios =
+          gherkinProcessor.generateExamples(gherkinDocument, config, combineItems, context);
     }
     if (numberOfScenarios > 0) {
-      getPluginLog().debug("writing result to: " + file.getAbsolutePath());
+      log.debug("writing result to: " + file.getAbsolutePath());
       final String newContent = prettyPrint(gherkinDocument, Syntax.gherkin);
       writeString(file.toPath(), newContent);
     } else {
-      getPluginLog().warn("No scenarios to process in file: " + file.getName());
+      log.warn("No scenarios to process in file: " + file.getName());
       delete(file.toPath());
     }
 
-    getPluginLog().info("processed: " + file.getName());
+    log.info("processed: " + file.getName());
   }
 
   public static GherkinDocument parseGherkinString(String uri, String gherkin) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static java.lang.String.format;
+
+import de.gematik.combine.CombineConfiguration;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Remembers the filtered tables generated for examples tables, so an examples table with the same
+ * headers and tags reuses the table instead of generating it again. The generation only depends on
+ * the headers, the tags, the plugin configuration and the items, which form the {@link Key}.
+ *
+ * <p>Tables are not cached if they are shuffled or if errors were reported while generating them,
+ * because reusing them would repeat the random order or drop the errors of the other table.
+ */
+class GeneratedTableCache {
+
+  static final int MAX_CACHED_TABLES = 256;
+
+  private final Map<Key, List<List<TableCell>>> tables =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Entry<Key, List<List<TableCell>>> eldest) {
+          return size() > MAX_CACHED_TABLES;
+        }
+      };
+
+  /**
+   * Returns the cached table for the key or generates and caches it.
+   *
+   * @param cacheable false if the generated table must not be reused, e.g. because it is shuffled
+   * @param context the context the generator reports its errors to
+   */
+  List<List<TableCell>> getOrGenerate(
+      Key key,
+      boolean cacheable,
+      ProcessingContext context,
+      Supplier<List<List<TableCell>>> generator) {
+    if (!cacheable) {
+      return generator.get();
+    }
+    List<List<TableCell>> table;
+    synchronized (tables) {
+      table = tables.get(key);
+    }
+    if (table != null) {
+      context.getLog().debug(format("reusing table generated for %s", key.tags));
+      return table;
+    }
+    int errorCount = context.getErrorCount();
+    table = List.copyOf(generator.get());
+    if (context.getErrorCount() == errorCount) {
+      synchronized (tables) {
+        tables.put(key, table);
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Identifies the inputs of a table generation. The configuration and the items are compared by
+   * identity, because they are the same objects for all tables of a run.
+   */
+  @RequiredArgsConstructor
+  static final class Key {
+
+    private final List<String> headers;
+    private final List<String> tags;
+    private final boolean softFilterShouldApply;
+    private final CombineConfiguration config;
+    private final List<CombineItem> combineItems;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key other)) {
+        return false;
+      }
+      return softFilterShouldApply == other.softFilterShouldApply
+          && config == other.config
+          && combineItems == other.combineItems
+          && headers.equals(other.headers)
+          && tags.equals(other.tags);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          headers,
+          tags,
+          softFilterShouldApply,
+          System.identityHashCode(config),
+          System.identityHashCode(combineItems));
+    }
+  }
+}
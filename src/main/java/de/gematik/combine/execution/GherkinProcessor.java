@@ -20,7 +20,6 @@
 
 package de.gematik.combine.execution;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
 import static java.lang.String.format;
 
 import de.gematik.combine.CombineConfiguration;
@@ -45,15 +44,17 @@ public class GherkinProcessor {
   public int generateExamples(
       GherkinDocument gherkinDocument,
       CombineConfiguration config,
-      List<CombineItem> combineItems) {
+      List<CombineItem> combineItems,
+      ProcessingContext context) {
     if (fileShouldBeSkipped(gherkinDocument, config.getSkipTags())) {
       return 0;
     }
 
     List<Scenario> scenarios = findMatchingScenarios(gherkinDocument, config);
 
-    getPluginLog().debug(format("processing %d scenarios: ", scenarios.size()));
-    scenarios.forEach(scenario -> scenarioProcessor.generateExamples(scenario, config, combineItems));
+    context.getLog().debug(format("processing %d scenarios: ", scenarios.size()));
+    scenarios.forEach(
+        scenario -> scenarioProcessor.generateExamples(scenario, config, combineItems, context));
     return countScenarios(scenarios);
   }
 
@@ -0,0 +1,211 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static java.util.Arrays.stream;
+
+import de.gematik.combine.filter.table.row.RowFilter;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Generates a table in which every prepared value is used at least once with as few rows as
+ * possible. Items are identified by their dense ids of the {@link TableSchema}, so missing items
+ * as well as the items and filled columns of a row are tracked in {@link BitSet}s.
+ *
+ * <p>For every value that is still missing a row is started with it and extended column by column
+ * (wrapping around after the last column). Each column prefers missing items that are not yet part
+ * of the row and falls back to any value if no such item passes the row filters. A row filter is
+ * evaluated as soon as all its required columns are filled, filters without required columns are
+ * evaluated on every extension.
+ */
+class MinimalTableGenerator {
+
+  private final List<List<TableCell>> preparedColumns;
+  private final TableSchema schema;
+  private final int[][] itemIds;
+  private final List<RowFilter> rowFilters = new ArrayList<>();
+  private final List<BitSet> requiredColumns = new ArrayList<>();
+  private final BitSet missingItems = new BitSet();
+  private final List<List<TableCell>> result = new ArrayList<>();
+  private final Log log;
+
+  MinimalTableGenerator(
+      List<List<TableCell>> preparedColumns,
+      List<? extends RowFilter> rowFilters,
+      TableSchema schema,
+      Log log) {
+    this.preparedColumns = preparedColumns;
+    this.log = log;
+    this.schema = schema;
+    this.itemIds = new int[preparedColumns.size()][];
+    for (int column = 0; column < preparedColumns.size(); column++) {
+      itemIds[column] =
+          preparedColumns.get(column).stream()
+              .mapToInt(cell -> schema.itemId(cell.getCombineItem()))
+              .toArray();
+      stream(itemIds[column]).forEach(missingItems::set);
+    }
+    List<String> columns = schema.getColumns();
+    for (RowFilter rowFilter : rowFilters) {
+      List<String> required = rowFilter.getRequiredColumns(columns);
+      // filters requiring unknown columns are never applicable
+      if (columns.containsAll(required)) {
+        BitSet requiredBits = new BitSet();
+        required.stream().mapToInt(columns::indexOf).forEach(requiredBits::set);
+        this.rowFilters.add(rowFilter.forSchema(schema));
+        this.requiredColumns.add(requiredBits);
+      }
+    }
+  }
+
+  List<List<TableCell>> generate() {
+    for (int column = 0; column < preparedColumns.size(); column++) {
+      for (int index = 0; index < itemIds[column].length; index++) {
+        if (missingItems.get(itemIds[column][index])) {
+          buildRow(column, index);
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Returns the items that could not be placed in any row. */
+  List<CombineItem> getMissingItems() {
+    return missingItems.stream().mapToObj(schema::item).toList();
+  }
+
+  private void buildRow(int startColumn, int startIndex) {
+    int columnCount = preparedColumns.size();
+    int[] indices = new int[columnCount];
+    List<TableCell> row = new ArrayList<>(columnCount);
+    BitSet rowItems = new BitSet();
+    BitSet filledColumns = new BitSet();
+
+    indices[startColumn] = startIndex;
+    row.add(preparedColumns.get(startColumn).get(startIndex));
+    rowItems.set(itemIds[startColumn][startIndex]);
+    filledColumns.set(startColumn);
+
+    for (int column = (startColumn + 1) % columnCount;
+        column != startColumn;
+        column = (column + 1) % columnCount) {
+      boolean firstExtension = row.size() == 1;
+      filledColumns.set(column);
+      int index = findNewValue(column, row, rowItems, filledColumns, firstExtension);
+      if (index < 0) {
+        log.debug("could not create a valid row for: " + row.get(0));
+        return;
+      }
+      row.add(preparedColumns.get(column).get(index));
+      rowItems.set(itemIds[column][index]);
+      indices[column] = index;
+    }
+    addRow(indices);
+  }
+
+  /**
+   * Returns the index of the first missing item of the column that is not part of the row yet and
+   * passes the row filters, or else of the first value passing the row filters, or -1.
+   */
+  private int findNewValue(
+      int column,
+      List<TableCell> row,
+      BitSet rowItems,
+      BitSet filledColumns,
+      boolean firstExtension) {
+    List<RowFilter> applicableFilters = applicableFilters(column, filledColumns, firstExtension);
+    int[] ids = itemIds[column];
+    for (int index = 0; index < ids.length; index++) {
+      if (missingItems.get(ids[index])
+          && !rowItems.get(ids[index])
+          && passesFilters(row, column, index, applicableFilters)) {
+        return index;
+      }
+    }
+    for (int index = 0; index < ids.length; index++) {
+      if (passesFilters(row, column, index, applicableFilters)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Selects the filters whose required columns are filled now. Filters that were already applicable
+   * before the given column was filled passed on the shorter row and are skipped, except for
+   * filters without required columns and the first extension of a row whose start value has not
+   * been checked yet.
+   */
+  private List<RowFilter> applicableFilters(
+      int column, BitSet filledColumns, boolean firstExtension) {
+    List<RowFilter> applicableFilters = new ArrayList<>();
+    for (int f = 0; f < rowFilters.size(); f++) {
+      BitSet required = requiredColumns.get(f);
+      if ((firstExtension || required.isEmpty() || required.get(column))
+          && isSubset(required, filledColumns)) {
+        applicableFilters.add(rowFilters.get(f));
+      }
+    }
+    return applicableFilters;
+  }
+
+  private boolean passesFilters(
+      List<TableCell> row, int column, int index, List<RowFilter> applicableFilters) {
+    if (applicableFilters.isEmpty()) {
+      return true;
+    }
+    row.add(preparedColumns.get(column).get(index));
+    try {
+      for (RowFilter rowFilter : applicableFilters) {
+        if (!rowFilter.test(row)) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      row.remove(row.size() - 1);
+    }
+  }
+
+  private void addRow(int[] indices) {
+    int[] rowItemIds = new int[indices.length];
+    for (int column = 0; column < indices.length; column++) {
+      rowItemIds[column] = itemIds[column][indices[column]];
+      missingItems.clear(rowItemIds[column]);
+    }
+    result.add(schema.row(rowItemIds));
+  }
+
+  private static boolean isSubset(BitSet subset, BitSet set) {
+    for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1)) {
+      if (!set.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.execution;
+
+import de.gematik.combine.CombineMojo.ErrorType;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Holds everything one execution of the combine goal or one of its tasks needs besides its
+ * arguments: the log and the version property of the executing mojo, the current scenario and the
+ * errors of the task. Each mojo execution creates its own root context and passes it down
+ * explicitly, so executions of different modules in a parallel build do not share any state.
+ *
+ * <p>Tasks may run concurrently, so each feature file and examples table collects its errors in a
+ * {@link #child(String) child} context and the caller reports them in a fixed order after the task
+ * finished. This keeps the error log the same for every number of threads.
+ *
+ * <p>All concurrent work of an execution runs on the bounded {@link ForkJoinPool} of its root
+ * context, so parallel streams never fall back to the common pool and the configured parallelism
+ * is the upper bound for every feature file, examples table and table search.
+ */
+public class ProcessingContext {
+
+  public static final String DEFAULT_VERSION_PROPERTY = "version";
+
+  @Getter private final Log log;
+  @Getter private final String versionProperty;
+  @Getter private final String scenarioName;
+  private final ForkJoinPool pool;
+  private final List<Entry<String, ErrorType>> errors = new ArrayList<>();
+
+  /** Creates a context that processes everything in the calling thread */
+  public ProcessingContext(Log log, String versionProperty) {
+    this(log, versionProperty, null, null);
+  }
+
+  /**
+   * Creates a context that processes concurrent work on the given pool. The caller owns the pool
+   * and shuts it down after the execution.
+   */
+  public ProcessingContext(Log log, String versionProperty, ForkJoinPool pool) {
+    this(log, versionProperty, null, pool);
+  }
+
+  private ProcessingContext(
+      Log log, String versionProperty, String scenarioName, ForkJoinPool pool) {
+    this.log = log;
+    this.versionProperty = versionProperty;
+    this.scenarioName = scenarioName;
+    this.pool = pool;
+  }
+
+  public ProcessingContext child() {
+    return child(scenarioName);
+  }
+
+  public ProcessingContext child(String scenarioName) {
+    return new ProcessingContext(log, versionProperty, scenarioName, pool);
+  }
+
+  /** Returns the number of threads of the execution's pool, 1 if it has none */
+  public int getParallelism() {
+    return pool == null ? 1 : pool.getParallelism();
+  }
+
+  /**
+   * Runs the task on the execution's pool, so parallel streams of the task use that pool. Tasks
+   * already running on the pool and contexts without a pool run the task in the calling thread.
+   */
+  public <T> T compute(Supplier<T> task) {
+    if (pool == null || ForkJoinTask.getPool() == pool) {
+      return task.get();
+    }
+    return pool.submit(task::get).join();
+  }
+
+  public void execute(Runnable task) {
+    compute(
+        () -> {
+          task.run();
+          return null;
+        });
+  }
+
+  public synchronized void appendError(String error, ErrorType type) {
+    errors.add(new SimpleImmutableEntry<>(error, type));
+  }
+
+  public synchronized int getErrorCount() {
+    return errors.size();
+  }
+
+  public synchronized List<String> getErrors(ErrorType type) {
+    return errors.stream()
+        .filter(error -> error.getValue() == type)
+        .map(Entry::getKey)
+        .toList();
+  }
+
+  /** Passes the errors of this task to the consumer in the order they were appended */
+  public synchronized void forEachError(BiConsumer<String, ErrorType> consumer) {
+    errors.forEach(error -> consumer.accept(error.getKey(), error.getValue()));
+  }
+}
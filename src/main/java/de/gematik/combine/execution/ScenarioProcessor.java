@@ -21,14 +21,11 @@
 package de.gematik.combine.execution;
 
 import static de.gematik.combine.CombineMojo.ErrorType.SIZE;
-import static de.gematik.combine.CombineMojo.appendError;
-import static de.gematik.combine.CombineMojo.getPluginLog;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
 import de.gematik.combine.CombineConfiguration;
 import de.gematik.combine.model.CombineItem;
-import de.gematik.combine.util.CurrentScenario;
 import io.cucumber.messages.types.Examples;
 import io.cucumber.messages.types.Location;
 import io.cucumber.messages.types.Scenario;
@@ -36,6 +33,7 @@ import io.cucumber.messages.types.Tag;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 import javax.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -48,30 +46,41 @@ public class ScenarioProcessor {
   private final ExamplesProcessor examplesProcessor;
 
   public void generateExamples(
-      Scenario scenario, CombineConfiguration config, List<CombineItem> combineItems) {
-    CurrentScenario.setCurrentScenarioName(scenario.getName());
-
+      Scenario scenario,
+      CombineConfiguration config,
+      List<CombineItem> combineItems,
+      ProcessingContext context) {
     List<Examples> examples =
         scenario.getExamples().stream()
             .filter(example -> examplesWithoutSkipTag(example, config.getSkipTags()))
             .toList();
 
-    getPluginLog().debug(format("processing %d examples: ", examples.size()));
-    examples.forEach(
-        table -> processExamplesTable(table, combineItems, config, scenario.getName()));
+    context.getLog().debug(format("processing %d examples: ", examples.size()));
+    List<ProcessingContext> contexts =
+        examples.stream().map(table -> context.child(scenario.getName())).toList();
+    context.execute(
+        () -> {
+          IntStream tableIndices = IntStream.range(0, examples.size());
+          (context.getParallelism() > 1 ? tableIndices.parallel() : tableIndices)
+              .forEach(
+                  i ->
+                      processExamplesTable(
+                          examples.get(i), combineItems, config, contexts.get(i)));
+        });
+    contexts.forEach(tableContext -> tableContext.forEachError(context::appendError));
 
     addEmptyExamplesTags(scenario, config.getEmptyExamplesTags());
-    checkTableSize(scenario, config.getMinTableSize());
+    checkTableSize(scenario, config.getMinTableSize(), context);
   }
 
   private void processExamplesTable(
       Examples examples,
       List<CombineItem> combineItems,
       CombineConfiguration configuration,
-      String scenarioName) {
-    getPluginLog().debug("processing single examples table" + examples.getName());
+      ProcessingContext context) {
+    context.getLog().debug("processing single examples table" + examples.getName());
 
-    examplesProcessor.process(examples, configuration, combineItems, scenarioName);
+    examplesProcessor.process(examples, configuration, combineItems, context);
   }
 
   private void addEmptyExamplesTags(Scenario scenario, List<String> tags) {
@@ -102,7 +111,7 @@ public class ScenarioProcessor {
         .noneMatch(skipTags::contains);
   }
 
-  private void checkTableSize(Scenario scenario, int minTableSize) {
+  private void checkTableSize(Scenario scenario, int minTableSize, ProcessingContext context) {
     List<Integer> tableSizes =
         scenario.getExamples().stream()
             .map(e -> e.getTableBody().size())
@@ -111,7 +120,7 @@ public class ScenarioProcessor {
     if (tableSizes.isEmpty()) {
       return;
     }
-    appendError(
+    context.appendError(
         format(
             "The table of scenario \"%s\" has a table with size %s which is less than the minimal size of %s",
             scenario.getName(),
@@ -20,314 +20,378 @@
 
 package de.gematik.combine.execution;
 
-import static com.google.common.collect.Lists.cartesianProduct;
+import static com.google.common.math.LongMath.saturatedMultiply;
 import static de.gematik.combine.CombineMojo.ErrorType.MINIMAL_TABLE;
-import static de.gematik.combine.CombineMojo.appendError;
-import static de.gematik.combine.CombineMojo.getPluginLog;
-import static de.gematik.combine.util.CurrentScenario.getCurrenScenarioName;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.emptySet;
 import static java.util.Collections.shuffle;
-import static java.util.Comparator.comparingInt;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Stream.concat;
+import static java.util.stream.StreamSupport.stream;
 
 import de.gematik.combine.filter.table.cell.CellFilter;
+import de.gematik.combine.filter.table.cell.VersionFilter;
 import de.gematik.combine.filter.table.row.RowFilter;
 import de.gematik.combine.model.CombineItem;
 import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
 import de.gematik.combine.tags.ConfiguredFilters;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
-import lombok.Data;
+import java.util.OptionalInt;
+import java.util.Random;
+import org.apache.maven.plugin.logging.Log;
 
 /**
- * This TableGenerator combines given {@link CombineItem}s to tables. It knows two generation modes:
+ * This TableGenerator combines given {@link CombineItem}s to tables. It knows three generation
+ * modes:
  *
- * <p>1. full table: applies cell filters to columns and calculates the cartesian product afterwards
+ * <p>1. full table: applies cell filters to columns and searches the cartesian product afterwards.
+ * Rows are built column by column and every row filter is evaluated as soon as all its required
+ * columns are filled, so whole subtrees of failing partial rows are skipped
  *
  * <p>2. minimal table: tries to use every item just once, but reuses items to fill otherwise
- * incomplete rows. Table generation complies with cell and row filters
+ * incomplete rows. Table generation complies with cell and row filters, see {@link
+ * MinimalTableGenerator}
+ *
+ * <p>3. covering table: every combination of values of any t columns that is allowed by the row
+ * filters appears at least once, see {@link CoveringArrayGenerator}
+ *
+ * <p>In all modes the generated table already complies with all {@link RowFilter}s, so only the
+ * remaining table filters have to be applied afterwards. If the full table is limited to a number
+ * of rows that is known in advance, its generation stops as soon as enough rows passed the table
+ * filters, see {@link ConfiguredFilters#getStreamableRowLimit()}.
  */
 public class TableGenerator {
 
   private static final int ONE_MILLION = 1000000;
+  static final int MIN_COMBINATIONS_FOR_PARALLEL_SEARCH = 10000;
+  private static final int SUBTREES_PER_THREAD = 4;
+
+  private final CellFilterCache cellFilterCache = new CellFilterCache();
+  /** Published without locking, concurrent tables may each build an equivalent index */
+  private volatile VersionIndex versionIndex;
 
+  /**
+   * Generates the table. Big full tables are searched on the pool of the context with up to its
+   * {@link ProcessingContext#getParallelism() parallelism}, the result is the same as for a single
+   * thread.
+   */
   public List<List<TableCell>> generateTable(
-      List<CombineItem> combineItems, ConfiguredFilters filters) {
+      List<CombineItem> combineItems, ConfiguredFilters filters, ProcessingContext context) {
     if (filters.getActualConfig().isMinimalTable()) {
-      return generateMinimalTable(combineItems, filters);
+      return generateMinimalTable(combineItems, filters, context);
+    }
+    if (filters.getActualConfig().getTWise() > 0) {
+      return generateCoveringTable(combineItems, filters, context);
     }
-    return generateFullTable(combineItems, filters);
+    return generateFullTable(combineItems, filters, context);
   }
 
-  private List<List<TableCell>> generateFullTable(
-      List<CombineItem> combineItems, ConfiguredFilters filters) {
+  private List<List<TableCell>> generateCoveringTable(
+      List<CombineItem> combineItems,
+      ConfiguredFilters filters,
+      ProcessingContext context) {
+    Log log = context.getLog();
     List<String> columns = filters.getColumns();
-
-    List<List<TableCell>> preparedColumns = preFilteredColumns(combineItems, filters);
-
-    getPluginLog().debug(format("creating cartesianProduct table with %d columns", columns.size()));
-    if (columns.size() > 5) {
-      getPluginLog()
-          .warn(
-              format(
-                  "creating cartesianProduct table with %d columns produces a huge amount "
-                      + "of entries and can cause out of memory errors",
-                  columns.size()));
+    int strength = filters.getActualConfig().getTWise();
+    if (strength >= columns.size()) {
+      log.debug(
+          format(
+              "%d-wise coverage of %d columns requires the full table", strength, columns.size()));
+      return generateFullTable(combineItems, filters, context);
     }
-    List<List<TableCell>> table = new ArrayList<>(cartesianProduct(preparedColumns));
-
-    getPluginLog()
-        .debug(format("created table with %d columns and %d rows", columns.size(), table.size()));
-    if (table.size() > ONE_MILLION) {
-      getPluginLog()
-          .warn(
-              "Such a big table will need chunking and a considerable amount of time "
-                  + "for filtering.\nPlease use '@Filter' tags with just one header reference to "
-                  + "filter columns before applying the cartesian product and therefore reduce "
-                  + "generated table size.");
+    log.debug(format("creating %d-wise covering table with %d columns", strength, columns.size()));
+
+    List<List<TableCell>> preparedColumns = preFilteredColumns(combineItems, filters, context);
+    if (preparedColumns.stream().anyMatch(List::isEmpty)) {
+      log.debug("could not generate any row for covering table");
+      return emptyList();
     }
-    return table;
+    return new CoveringArrayGenerator(
+            preparedColumns,
+            filters.getTableRowFilters(),
+            new TableSchema(columns, preparedColumns),
+            strength,
+            context)
+        .generate();
   }
 
-  /**
-   * applies cell filters to each column and returns a list with the possible values for each column
-   */
-  private List<List<TableCell>> preFilteredColumns(
-      List<CombineItem> combineItems, ConfiguredFilters filters) {
-    List<String> headers = filters.getColumns();
-    getPluginLog().debug("Applied cell filters: " + filters.getCellFilters());
-    Map<String, CellFilter> cellFilters = filters.combineCellFilters();
-
-    List<List<TableCell>> preparedColumns = new ArrayList<>();
-    for (String header : headers) {
-      List<TableCell> e =
-          combineItems.stream()
-              .map(s -> new TableCell(header, s))
-              .filter(cellFilters.getOrDefault(header, x -> true))
-              .collect(toList());
+  private List<List<TableCell>> generateFullTable(
+      List<CombineItem> combineItems,
+      ConfiguredFilters filters,
+      ProcessingContext context) {
+    Log log = context.getLog();
+    List<String> columns = filters.getColumns();
 
-      if (filters.getActualConfig().isShuffleCombinations()) {
-        shuffle(e);
-      }
-      preparedColumns.add(e);
+    List<List<TableCell>> preparedColumns = preFilteredColumns(combineItems, filters, context);
+
+    long combinations = countCombinations(preparedColumns);
+    log.debug(
+            format(
+                "searching cartesianProduct with %d columns and %d combinations",
+                columns.size(), combinations));
+    TableSchema schema = new TableSchema(columns, preparedColumns);
+    OptionalInt rowLimit = filters.getStreamableRowLimit();
+    boolean limited = rowLimit.isPresent() && rowLimit.getAsInt() < combinations;
+    if (limited && !filters.isShuffled()) {
+      return searchRowsUpToLimit(preparedColumns, filters, schema, rowLimit.getAsInt(), log);
+    }
+    if (combinations > ONE_MILLION) {
+      log.warn(
+          format(
+              "filtering %d combinations will take a considerable amount of time.\n"
+                  + "Please use '@Filter' tags with just one header reference to filter "
+                  + "columns before applying the cartesian product and therefore reduce "
+                  + "generated table size.",
+              combinations));
     }
-    getPluginLog()
-        .debug(format("prepared columns after applied cell filters: %s", preparedColumns));
 
-    return preparedColumns;
+    if (limited && !filters.hasOrderDependentFilters()) {
+      return sampleRows(preparedColumns, filters, schema, rowLimit.getAsInt(), log);
+    }
+    List<List<TableCell>> table =
+        context.getParallelism() > 1 && combinations >= MIN_COMBINATIONS_FOR_PARALLEL_SEARCH
+            ? searchRowsInParallel(preparedColumns, filters, schema, context)
+            : searchRows(preparedColumns, filters, schema, log);
+
+    log.debug(
+            format(
+                "created table with %d columns and %d rows after applying row filters",
+                columns.size(), table.size()));
+    return table;
   }
 
-  private List<List<TableCell>> generateMinimalTable(
-      List<CombineItem> combineItems, ConfiguredFilters filters) {
-    List<String> columns = filters.getColumns();
-    getPluginLog().debug(format("creating minimal table with %d columns", columns.size()));
-
-    final List<List<TableCell>> preparedColumns = preFilteredColumns(combineItems, filters);
+  private static List<List<TableCell>> searchRows(
+      List<List<TableCell>> preparedColumns,
+      ConfiguredFilters filters,
+      TableSchema schema,
+      Log log) {
+    return stream(
+            new BacktrackingRowSpliterator(
+                preparedColumns, filters.getTableRowFilters(), schema, log),
+            false)
+        .collect(toList());
+  }
 
-    boolean anyColumnEmpty = preparedColumns.stream().anyMatch(List::isEmpty);
-    if (anyColumnEmpty) {
-      getPluginLog().debug("could not generate any row for minimal table");
-      return emptyList();
-    }
-    getPluginLog().debug("Applied row filter: " + filters.getTableRowFilters());
-    getPluginLog().debug("Applied configuration: " + filters.getActualConfig());
-
-    StateInfo stateInfo = new StateInfo(filters, preparedColumns);
-    forEachUnusedValue(
-        stateInfo,
-        unusedValue -> findValidRow(stateInfo, unusedValue).ifPresent(stateInfo::addNewRow));
-    if (stateInfo.getAllMissingValues().size() != 0) {
-      stateInfo
-          .getAllMissingValues()
-          .forEach(
-              e ->
-                  appendError(
-                      format(
-                          "Building minimal table failed for scenario: \"%s\". "
-                              + "No row could be build for -> value: %s%s",
-                          getCurrenScenarioName(),
-                          e.getValue(),
-                          nonNull(e.getUrl()) ? " url: " + e.getUrl() : ""),
-                      MINIMAL_TABLE));
-    }
-    return stateInfo.getResult();
+  /**
+   * Searches rows until the given number of rows passed the streamable table filters. The table
+   * filters are applied again afterwards, which does not change these rows anymore.
+   */
+  private static List<List<TableCell>> searchRowsUpToLimit(
+      List<List<TableCell>> preparedColumns,
+      ConfiguredFilters filters,
+      TableSchema schema,
+      int rowLimit,
+      Log log) {
+    log.debug(format("stopping table generation after %d rows", rowLimit));
+    return stream(
+            new BacktrackingRowSpliterator(
+                preparedColumns, filters.getTableRowFilters(), schema, log),
+            false)
+        .filter(filters.newStreamingRowFilter())
+        .limit(rowLimit)
+        .collect(toList());
   }
 
-  private void forEachUnusedValue(StateInfo stateInfo, Consumer<TableCell> unusedValueConsumer) {
-    for (List<TableCell> preparedColumn : stateInfo.getPreparedColumns()) {
-      for (TableCell tableCell : preparedColumn) {
-        if (stateInfo.getAllMissingValues().contains(tableCell.getCombineItem())) {
-          Optional.of(tableCell).ifPresent(unusedValueConsumer);
+  /**
+   * Picks the given number of rows uniformly at random from all rows passing the row filters by
+   * reservoir sampling, so only the sampled rows are kept in memory. The sample is returned in
+   * random order. Only used without {@link ConfiguredFilters#hasOrderDependentFilters() order
+   * dependent filters}, because they would have to see all rows in shuffled order.
+   */
+  private static List<List<TableCell>> sampleRows(
+      List<List<TableCell>> preparedColumns,
+      ConfiguredFilters filters,
+      TableSchema schema,
+      int sampleSize,
+      Log log) {
+    log.debug(format("sampling %d random rows", sampleSize));
+    Random random = new Random();
+    Iterator<List<TableCell>> rows =
+        stream(
+                new BacktrackingRowSpliterator(
+                    preparedColumns, filters.getTableRowFilters(), schema, log),
+                false)
+            .iterator();
+    List<List<TableCell>> reservoir = new ArrayList<>();
+    for (long seenRows = 1; rows.hasNext(); seenRows++) {
+      List<TableCell> row = rows.next();
+      if (reservoir.size() < sampleSize) {
+        reservoir.add(row);
+      } else {
+        long index = random.nextLong(seenRows);
+        if (index < sampleSize) {
+          reservoir.set((int) index, row);
         }
       }
     }
+    shuffle(reservoir, random);
+    return reservoir;
   }
 
-  private Optional<List<TableCell>> findValidRow(StateInfo stateInfo, TableCell firstValue) {
-    List<String> columns = stateInfo.getFilters().getColumns();
-    List<List<TableCell>> preparedColumns = stateInfo.getPreparedColumns();
-
-    Optional<List<TableCell>> completeRow =
-        forEachColumnExtendRow(
-            firstValue,
-            columns,
-            preparedColumns,
-            (row, possibleValues) -> addNewValueToRow(stateInfo, row, possibleValues));
-
-    return completeRow.map(row -> sortRowForColumns(columns, row));
+  /**
+   * Splits the search space into subtrees by fixing the values of the first columns and searches
+   * the subtrees on the pool of the context. The results are concatenated in subtree order, so the
+   * table is identical to the one of {@link #searchRows(List, ConfiguredFilters, TableSchema,
+   * Log)}.
+   */
+  private static List<List<TableCell>> searchRowsInParallel(
+      List<List<TableCell>> preparedColumns,
+      ConfiguredFilters filters,
+      TableSchema schema,
+      ProcessingContext context) {
+    int parallelism = context.getParallelism();
+    List<List<List<TableCell>>> subtrees =
+        splitIntoSubtrees(preparedColumns, parallelism * SUBTREES_PER_THREAD);
+    Log log = context.getLog();
+    log.debug(format("searching %d subtrees with %d threads", subtrees.size(), parallelism));
+    return context.compute(() -> searchSubtrees(subtrees, filters, schema, log));
   }
 
-  private Optional<List<TableCell>> addNewValueToRow(
-      StateInfo stateInfo, List<TableCell> row, List<TableCell> possibleValues) {
-    List<TableCell> missingColumnValues =
-        possibleValues.stream()
-            .filter(val -> stateInfo.getAllMissingValues().contains(val.getCombineItem()))
-            .collect(toList());
-    List<RowFilter> rowFilters = new ArrayList<>(stateInfo.getFilters().getTableRowFilters());
-    Optional<TableCell> newColValue =
-        findNewRowValue(stateInfo, possibleValues, missingColumnValues, row, rowFilters);
-
-    return newColValue.map(
-        value -> {
-          List<TableCell> extendedRow = new ArrayList<>(row);
-          extendedRow.add(value);
-          return extendedRow;
-        });
+  /** Searches the subtrees with a parallel stream on the pool of the calling thread */
+  private static List<List<TableCell>> searchSubtrees(
+      List<List<List<TableCell>>> subtrees,
+      ConfiguredFilters filters,
+      TableSchema schema,
+      Log log) {
+    return subtrees.parallelStream()
+        .map(subtree -> searchRows(subtree, filters, schema, log))
+        .flatMap(List::stream)
+        .collect(toList());
   }
 
-  private Optional<List<TableCell>> forEachColumnExtendRow(
-      TableCell firstValue,
-      List<String> columns,
-      List<List<TableCell>> preparedColumns,
-      BiFunction<List<TableCell>, List<TableCell>, Optional<List<TableCell>>> rowExtender) {
-    int startColumn = columns.indexOf(firstValue.getHeader());
-    List<TableCell> tmpRow = new ArrayList<>(columns.size());
-    tmpRow.add(firstValue);
-    Optional<List<TableCell>> row = Optional.of(tmpRow);
-
-    for (int currentColumn = (startColumn + 1) % columns.size();
-        currentColumn != startColumn;
-        currentColumn = (currentColumn + 1) % columns.size()) {
-      List<TableCell> possibleValues = preparedColumns.get(currentColumn);
-      row = rowExtender.apply(row.get(), possibleValues);
-
-      if (row.isEmpty()) {
-        getPluginLog().debug("could not create a valid row for: " + firstValue);
-        return row;
-      }
+  private static List<List<List<TableCell>>> splitIntoSubtrees(
+      List<List<TableCell>> preparedColumns, int minSubtrees) {
+    List<List<List<TableCell>>> subtrees = List.of(preparedColumns);
+    for (int depth = 0;
+        depth < preparedColumns.size() - 1 && subtrees.size() < minSubtrees;
+        depth++) {
+      final int fixedColumn = depth;
+      subtrees =
+          subtrees.stream()
+              .flatMap(
+                  subtree ->
+                      subtree.get(fixedColumn).stream()
+                          .map(cell -> fixColumn(subtree, fixedColumn, cell)))
+              .collect(toList());
     }
-    return row;
+    return subtrees;
   }
 
-  private Optional<TableCell> findNewRowValue(
-      StateInfo stateInfo,
-      List<TableCell> preparedValues,
-      List<TableCell> remainingValuesForThisColumn,
-      List<TableCell> row,
-      List<RowFilter> rowFilter) {
-
-    return findNewValueNotContainedIn(
-            stateInfo, remainingValuesForThisColumn, row, stateInfo.getAllUsedValues(), rowFilter)
-        .or(
-            () ->
-                findNewValueNotContainedIn(
-                    stateInfo, remainingValuesForThisColumn, row, emptySet(), rowFilter))
-        .or(() -> findNewValueMatchingFilter(stateInfo, preparedValues, row, rowFilter));
+  private static List<List<TableCell>> fixColumn(
+      List<List<TableCell>> preparedColumns, int column, TableCell value) {
+    List<List<TableCell>> subtree = new ArrayList<>(preparedColumns);
+    subtree.set(column, List.of(value));
+    return subtree;
   }
 
-  private Optional<TableCell> findNewValueMatchingFilter(
-      StateInfo stateInfo,
-      List<TableCell> possibleValues,
-      List<TableCell> row,
-      List<RowFilter> rowFilters) {
-    for (TableCell possibleValue : possibleValues) {
-      ArrayList<TableCell> extendedRow = new ArrayList<>(row);
-      extendedRow.add(possibleValue);
-      if (checkRowFilter(extendedRow, rowFilters, stateInfo.getFilters().getColumns())) {
-        return Optional.of(possibleValue);
-      }
+  private static long countCombinations(List<List<TableCell>> preparedColumns) {
+    long combinations = 1;
+    for (List<TableCell> column : preparedColumns) {
+      combinations = saturatedMultiply(combinations, column.size());
     }
-    return Optional.empty();
+    return combinations;
   }
 
-  private Optional<TableCell> findNewValueNotContainedIn(
-      StateInfo stateInfo,
-      List<TableCell> possibleValues,
-      List<TableCell> usedRowValues,
-      Set<CombineItem> allUsedValues,
-      List<RowFilter> rowFilters) {
-    List<String> allColumns = stateInfo.getFilters().getColumns();
-    Set<CombineItem> usedCombineItems =
-        concat(allUsedValues.stream(), usedRowValues.stream().map(TableCell::getCombineItem))
-            .collect(toSet());
-
-    for (TableCell possibleValue : possibleValues) {
-      ArrayList<TableCell> possibleRow = new ArrayList<>(usedRowValues);
-      possibleRow.add(possibleValue);
-      if (!usedCombineItems.contains(possibleValue.getCombineItem())
-          && checkRowFilter(possibleRow, rowFilters, allColumns)) {
-        return Optional.of(possibleValue);
+  /**
+   * applies cell filters to each column and returns a list with the possible values for each column
+   */
+  private List<List<TableCell>> preFilteredColumns(
+      List<CombineItem> combineItems, ConfiguredFilters filters, ProcessingContext context) {
+    Log log = context.getLog();
+    List<String> headers = filters.getColumns();
+    log.debug("Applied cell filters: " + filters.getCellFilters());
+    Map<String, List<CellFilter>> cellFilters = filters.getCellFilters();
+
+    List<List<TableCell>> preparedColumns = new ArrayList<>();
+    for (String header : headers) {
+      List<CellFilter> columnFilters = cellFilters.getOrDefault(header, emptyList());
+      VersionIndex index =
+          hasVersionFilter(columnFilters)
+              ? versionIndex(combineItems, context.getVersionProperty())
+              : null;
+      List<TableCell> e =
+          combineItems.stream()
+              .map(s -> new TableCell(header, s))
+              .filter(
+                  cell -> columnFilters.stream().allMatch(f -> passes(f, cell, index, context)))
+              .collect(toList());
+
+      if (filters.getActualConfig().isShuffleCombinations()) {
+        shuffle(e);
       }
+      preparedColumns.add(e);
     }
-    return Optional.empty();
-  }
+    log.debug(format("prepared columns after applied cell filters: %s", preparedColumns));
+    log.debug(
+        format(
+            "cell filter cache: %d hits, %d misses",
+            cellFilterCache.getHits(), cellFilterCache.getMisses()));
 
-  private boolean checkRowFilter(
-      List<TableCell> row, List<RowFilter> rowFilters, List<String> allHeaders) {
-    return rowFilters.stream()
-        .filter(rf -> isApplicable(row, rf, allHeaders))
-        .allMatch(rf -> rf.test(row));
+    return preparedColumns;
   }
 
-  private boolean isApplicable(List<TableCell> row, RowFilter rowFilter, List<String> allHeaders) {
-    List<String> requiredColumns = rowFilter.getRequiredColumns(allHeaders);
-    Set<String> filledColumns = row.stream().map(TableCell::getHeader).collect(toSet());
-    return filledColumns.containsAll(requiredColumns);
+  private static boolean hasVersionFilter(List<CellFilter> columnFilters) {
+    return columnFilters.stream().anyMatch(VersionFilter.class::isInstance);
   }
 
-  private List<TableCell> sortRowForColumns(List<String> columns, List<TableCell> row) {
-    row.sort(comparingInt(a -> columns.indexOf(a.getHeader())));
-    return row;
+  /** Version filters look up indexed items in the {@link VersionIndex} instead of comparing. */
+  private boolean passes(
+      CellFilter filter, TableCell cell, VersionIndex index, ProcessingContext context) {
+    if (index != null && filter instanceof VersionFilter && index.contains(cell.getCombineItem())) {
+      return index.matching((VersionFilter) filter).contains(cell.getCombineItem());
+    }
+    return cellFilterCache.test(filter, cell, context);
   }
 
-  @Data
-  public static class StateInfo {
+  private VersionIndex versionIndex(List<CombineItem> combineItems, String versionProperty) {
+    VersionIndex index = versionIndex;
+    if (index == null || !index.isIndexOf(combineItems, versionProperty)) {
+      index = new VersionIndex(combineItems, versionProperty);
+      versionIndex = index;
+    }
+    return index;
+  }
 
-    private final ConfiguredFilters filters;
-    private final List<List<TableCell>> preparedColumns;
-    private final Set<CombineItem> allMissingValues;
-    private final Set<CombineItem> allUsedValues = new TreeSet<>();
-    private final List<List<TableCell>> result = new ArrayList<>();
+  private List<List<TableCell>> generateMinimalTable(
+      List<CombineItem> combineItems, ConfiguredFilters filters, ProcessingContext context) {
+    Log log = context.getLog();
+    List<String> columns = filters.getColumns();
+    log.debug(format("creating minimal table with %d columns", columns.size()));
 
-    public StateInfo(ConfiguredFilters filters, List<List<TableCell>> preparedColumns) {
-      this.filters = filters;
-      this.preparedColumns = preparedColumns;
-      this.allMissingValues = compute(preparedColumns);
-    }
+    final List<List<TableCell>> preparedColumns =
+        preFilteredColumns(combineItems, filters, context);
 
-    private Set<CombineItem> compute(List<List<TableCell>> preparedColumns) {
-      return preparedColumns.stream()
-          .flatMap(List::stream)
-          .map(TableCell::getCombineItem)
-          .collect(toSet());
+    boolean anyColumnEmpty = preparedColumns.stream().anyMatch(List::isEmpty);
+    if (anyColumnEmpty) {
+      log.debug("could not generate any row for minimal table");
+      return emptyList();
     }
+    log.debug("Applied row filter: " + filters.getTableRowFilters());
+    log.debug("Applied configuration: " + filters.getActualConfig());
 
-    public void addNewRow(List<TableCell> row) {
-      result.add(row);
-      Set<CombineItem> rowValues = row.stream().map(TableCell::getCombineItem).collect(toSet());
-      allUsedValues.addAll(rowValues);
-      allMissingValues.removeAll(rowValues);
-    }
+    MinimalTableGenerator generator =
+        new MinimalTableGenerator(
+            preparedColumns,
+            filters.getTableRowFilters(),
+            new TableSchema(columns, preparedColumns),
+            log);
+    List<List<TableCell>> table = generator.generate();
+    generator
+        .getMissingItems()
+        .forEach(
+            e ->
+                context.appendError(
+                    format(
+                        "Building minimal table failed for scenario: \"%s\". "
+                            + "No row could be build for -> value: %s%s",
+                        context.getScenarioName(),
+                        e.getValue(),
+                        nonNull(e.getUrl()) ? " url: " + e.getUrl() : ""),
+                    MINIMAL_TABLE));
+    return table;
   }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.execution;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.newSetFromMap;
+
+import de.gematik.combine.filter.table.cell.VersionFilter;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.properties.Version;
+import java.lang.reflect.MalformedParametersException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+
+/**
+ * The items with a valid version in the version property, sorted by their version. The items
+ * matching a {@link VersionFilter} are one or two ranges of the index, which are found by binary
+ * search instead of comparing the version of every item. Items without a valid version are not
+ * indexed and have to be tested by the filter itself, so it can report them.
+ *
+ * <p>The index can be used by multiple threads.
+ */
+class VersionIndex {
+
+  private final List<CombineItem> source;
+  private final String versionProperty;
+  private final CombineItem[] items;
+  private final Version[] versions;
+  private final Set<CombineItem> indexed = newSetFromMap(new IdentityHashMap<>());
+  private final Map<VersionFilter, Set<CombineItem>> matches = new ConcurrentHashMap<>();
+
+  VersionIndex(List<CombineItem> source, String versionProperty) {
+    this.source = source;
+    this.versionProperty = versionProperty;
+    List<IndexEntry> entries = new ArrayList<>();
+    for (CombineItem item : source) {
+      if (item.hasProperty(versionProperty)) {
+        try {
+          entries.add(new IndexEntry(item, item.getVersion(versionProperty)));
+        } catch (MalformedParametersException ignored) {
+          // the filter reports the invalid version
+        }
+      }
+    }
+    entries.sort((a, b) -> a.getVersion().compareTo(b.getVersion()));
+    this.items = new CombineItem[entries.size()];
+    this.versions = new Version[entries.size()];
+    for (int i = 0; i < entries.size(); i++) {
+      items[i] = entries.get(i).getItem();
+      versions[i] = entries.get(i).getVersion();
+      indexed.add(items[i]);
+    }
+  }
+
+  boolean isIndexOf(List<CombineItem> items, String versionProperty) {
+    return source == items && this.versionProperty.equals(versionProperty);
+  }
+
+  boolean contains(CombineItem item) {
+    return indexed.contains(item);
+  }
+
+  /** Returns the indexed items that pass the filter, compared by identity. */
+  Set<CombineItem> matching(VersionFilter filter) {
+    return matches.computeIfAbsent(filter, this::findMatching);
+  }
+
+  private Set<CombineItem> findMatching(VersionFilter filter) {
+    Version version = filter.getFilterVersion();
+    int lower = firstIndex(version, false);
+    int upper = firstIndex(version, true);
+    Set<CombineItem> result = newSetFromMap(new IdentityHashMap<>());
+    switch (filter.getOperator()) {
+      case EQ:
+        addRange(result, lower, upper);
+        break;
+      case NE:
+        addRange(result, 0, lower);
+        addRange(result, upper, items.length);
+        break;
+      case LT:
+        addRange(result, 0, lower);
+        break;
+      case LE:
+        addRange(result, 0, upper);
+        break;
+      case GT:
+        addRange(result, upper, items.length);
+        break;
+      case GE:
+        addRange(result, lower, items.length);
+        break;
+    }
+    return result;
+  }
+
+  /** Returns the index of the first version greater than (or equal to) the given version. */
+  private int firstIndex(Version version, boolean greater) {
+    int low = 0;
+    int high = versions.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int compared = versions[mid].compareTo(version);
+      if (compared > 0 || (!greater && compared == 0)) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  private void addRange(Set<CombineItem> result, int from, int to) {
+    result.addAll(asList(items).subList(from, to));
+  }
+
+  @Value
+  private static class IndexEntry {
+    CombineItem item;
+    Version version;
+  }
+}
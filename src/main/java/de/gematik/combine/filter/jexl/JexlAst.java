@@ -0,0 +1,86 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import org.apache.commons.jexl3.JexlFeatures;
+import org.apache.commons.jexl3.parser.ASTArrayAccess;
+import org.apache.commons.jexl3.parser.ASTIdentifier;
+import org.apache.commons.jexl3.parser.ASTIdentifierAccess;
+import org.apache.commons.jexl3.parser.ASTJexlScript;
+import org.apache.commons.jexl3.parser.ASTReferenceExpression;
+import org.apache.commons.jexl3.parser.ASTStringLiteral;
+import org.apache.commons.jexl3.parser.JexlNode;
+import org.apache.commons.jexl3.parser.Parser;
+
+/** Parses JEXL expressions and inspects their syntax tree for the compilers of this package. */
+class JexlAst {
+
+  private JexlAst() {}
+
+  /**
+   * Returns the syntax tree of a single expression or null if it cannot be parsed or consists of
+   * several statements
+   */
+  static JexlNode parseExpression(String expression) {
+    ASTJexlScript script;
+    try {
+      script = new Parser(expression).parse(null, new JexlFeatures(), expression, null);
+    } catch (RuntimeException e) {
+      return null;
+    }
+    return script.jjtGetNumChildren() == 1 ? script.jjtGetChild(0) : null;
+  }
+
+  /** Returns the node inside of redundant parentheses */
+  static JexlNode unwrap(JexlNode node) {
+    while (node instanceof ASTReferenceExpression && node.jjtGetNumChildren() == 1) {
+      node = node.jjtGetChild(0);
+    }
+    return node;
+  }
+
+  /** Returns the name of an identifier without namespace, e.g. a column, null for other nodes */
+  static String identifierName(JexlNode node) {
+    return node instanceof ASTIdentifier identifier && identifier.getNamespace() == null
+        ? identifier.getName()
+        : null;
+  }
+
+  /** Returns the name of a plain {@code .name} access, null for safe, indexed or computed ones */
+  static String accessedName(JexlNode node) {
+    if (node.getClass() == ASTIdentifierAccess.class
+        && ((ASTIdentifierAccess) node).getIdentifier() instanceof String name) {
+      return name;
+    }
+    return null;
+  }
+
+  /** Returns the name of a {@code .name} or {@code ["name"]} access, null for computed ones */
+  static String memberName(JexlNode node) {
+    if (node instanceof ASTArrayAccess
+        && node.jjtGetNumChildren() == 1
+        && node.jjtGetChild(0) instanceof ASTStringLiteral literal) {
+      return literal.getLiteral();
+    }
+    return accessedName(node);
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static de.gematik.combine.filter.jexl.JexlAst.accessedName;
+import static de.gematik.combine.filter.jexl.JexlAst.identifierName;
+import static de.gematik.combine.filter.jexl.JexlAst.memberName;
+import static de.gematik.combine.filter.jexl.JexlAst.parseExpression;
+import static de.gematik.combine.filter.jexl.JexlAst.unwrap;
+import static de.gematik.combine.model.CombineItem.DEFAULT_PROPERTY;
+
+import de.gematik.combine.model.ItemDictionary;
+import java.util.BitSet;
+import java.util.function.Function;
+import org.apache.commons.jexl3.parser.ASTAndNode;
+import org.apache.commons.jexl3.parser.ASTArguments;
+import org.apache.commons.jexl3.parser.ASTEQNode;
+import org.apache.commons.jexl3.parser.ASTFalseNode;
+import org.apache.commons.jexl3.parser.ASTMethodNode;
+import org.apache.commons.jexl3.parser.ASTNENode;
+import org.apache.commons.jexl3.parser.ASTNotNode;
+import org.apache.commons.jexl3.parser.ASTOrNode;
+import org.apache.commons.jexl3.parser.ASTReference;
+import org.apache.commons.jexl3.parser.ASTStringLiteral;
+import org.apache.commons.jexl3.parser.ASTTrueNode;
+import org.apache.commons.jexl3.parser.JexlNode;
+
+/**
+ * Compiles cell filter expressions of a supported subset of JEXL into queries on the inverted index
+ * of an {@link ItemDictionary}. A query returns the {@link
+ * de.gematik.combine.model.FrozenItem#getOrdinal() ordinals} of the items passing the filter.
+ * Supported are
+ *
+ * <ul>
+ *   <li>{@code &&}, {@code ||}, {@code !} and the literals {@code true} and {@code false},
+ *   <li>{@code <column>.hasTag("<tag>")} and {@code <column>.hasProperty("<name>")},
+ *   <li>{@code ==} and {@code !=} between {@code <column>.properties.<name>} or {@code
+ *       <column>.properties["<name>"]} and a non-empty string literal,
+ * </ul>
+ *
+ * which are answered by intersections, unions and complements of the bitsets of the index. Items
+ * that are not frozen and expressions outside of the subset have to be evaluated by JEXL.
+ */
+public class JexlCellQueryCompiler {
+
+  private JexlCellQueryCompiler() {}
+
+  /** Returns the query of the expression on the given column or null if it is not supported */
+  public static Function<ItemDictionary, BitSet> compile(String column, String expression) {
+    JexlNode node = parseExpression(expression);
+    return node == null ? null : new Compilation(column).condition(node);
+  }
+
+  private static BitSet complement(BitSet items, ItemDictionary dictionary) {
+    BitSet result = new BitSet();
+    result.set(0, dictionary.itemCount());
+    result.andNot(items);
+    return result;
+  }
+
+  private static class Compilation {
+
+    private final String column;
+
+    private Compilation(String column) {
+      this.column = column;
+    }
+
+    private Function<ItemDictionary, BitSet> condition(JexlNode expression) {
+      JexlNode node = unwrap(expression);
+      if (node instanceof ASTTrueNode) {
+        return dictionary -> complement(new BitSet(), dictionary);
+      }
+      if (node instanceof ASTFalseNode) {
+        return dictionary -> new BitSet();
+      }
+      if (node instanceof ASTNotNode) {
+        Function<ItemDictionary, BitSet> operand = condition(node.jjtGetChild(0));
+        return operand == null
+            ? null
+            : dictionary -> complement(operand.apply(dictionary), dictionary);
+      }
+      if (node instanceof ASTAndNode || node instanceof ASTOrNode) {
+        return junction(node, node instanceof ASTAndNode);
+      }
+      if (node instanceof ASTEQNode || node instanceof ASTNENode) {
+        return propertyComparison(node, node instanceof ASTEQNode);
+      }
+      if (node instanceof ASTReference) {
+        return methodCall(node);
+      }
+      return null;
+    }
+
+    private Function<ItemDictionary, BitSet> junction(JexlNode node, boolean and) {
+      Function<ItemDictionary, BitSet> result = null;
+      for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+        Function<ItemDictionary, BitSet> operand = condition(node.jjtGetChild(i));
+        if (operand == null) {
+          return null;
+        }
+        if (result == null) {
+          result = operand;
+        } else {
+          Function<ItemDictionary, BitSet> previous = result;
+          result =
+              dictionary -> {
+                BitSet items = previous.apply(dictionary);
+                if (and) {
+                  items.and(operand.apply(dictionary));
+                } else {
+                  items.or(operand.apply(dictionary));
+                }
+                return items;
+              };
+        }
+      }
+      return result;
+    }
+
+    private Function<ItemDictionary, BitSet> propertyComparison(JexlNode node, boolean equal) {
+      String property = property(node.jjtGetChild(0));
+      String value = nonEmptyLiteral(node.jjtGetChild(1));
+      if (property == null || value == null) {
+        property = property(node.jjtGetChild(1));
+        value = nonEmptyLiteral(node.jjtGetChild(0));
+      }
+      if (property == null || value == null) {
+        return null;
+      }
+      String key = property;
+      String expected = value;
+      return equal
+          ? dictionary -> dictionary.itemsWithPropertyValue(key, expected)
+          : dictionary -> complement(dictionary.itemsWithPropertyValue(key, expected), dictionary);
+    }
+
+    private Function<ItemDictionary, BitSet> methodCall(JexlNode reference) {
+      if (reference.jjtGetNumChildren() != 2
+          || !isColumn(reference.jjtGetChild(0))
+          || !(reference.jjtGetChild(1) instanceof ASTMethodNode method)
+          || method.jjtGetNumChildren() != 2
+          || !(method.jjtGetChild(1) instanceof ASTArguments arguments)
+          || arguments.jjtGetNumChildren() != 1
+          || !(arguments.jjtGetChild(0) instanceof ASTStringLiteral literal)) {
+        return null;
+      }
+      String name = accessedName(method.jjtGetChild(0));
+      String argument = literal.getLiteral();
+      if ("hasTag".equals(name)) {
+        return dictionary -> dictionary.itemsWithTag(argument);
+      }
+      if ("hasProperty".equals(name)) {
+        return dictionary -> dictionary.itemsWithProperty(argument);
+      }
+      return null;
+    }
+
+    /** Returns the name of the property of a {@code <column>.properties.<name>} reference */
+    private String property(JexlNode expression) {
+      JexlNode node = unwrap(expression);
+      if (!(node instanceof ASTReference)
+          || node.jjtGetNumChildren() != 3
+          || !isColumn(node.jjtGetChild(0))
+          || !"properties".equals(accessedName(node.jjtGetChild(1)))) {
+        return null;
+      }
+      return memberName(node.jjtGetChild(2));
+    }
+
+    private boolean isColumn(JexlNode node) {
+      return column.equals(identifierName(node));
+    }
+
+    /**
+     * Returns the value of a string literal, but not of the {@link
+     * de.gematik.combine.model.CombineItem#DEFAULT_PROPERTY default} a missing property compares
+     * equal to
+     */
+    private static String nonEmptyLiteral(JexlNode node) {
+      if (node instanceof ASTStringLiteral literal) {
+        String value = literal.getLiteral();
+        return DEFAULT_PROPERTY.equals(value) ? null : value;
+      }
+      return null;
+    }
+  }
+}
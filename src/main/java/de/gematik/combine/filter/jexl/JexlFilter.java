@@ -20,122 +20,301 @@
 
 package de.gematik.combine.filter.jexl;
 
-import static de.gematik.combine.filter.jexl.JexlContextVariables.ALL_PROPERTIES;
-import static de.gematik.combine.filter.jexl.JexlContextVariables.ALL_TAGS;
-import static de.gematik.combine.filter.jexl.JexlContextVariables.COLUMN_COUNT;
-import static de.gematik.combine.filter.jexl.JexlContextVariables.ROW_COUNT;
+import static de.gematik.combine.filter.jexl.JexlAst.accessedName;
+import static de.gematik.combine.filter.jexl.JexlAst.identifierName;
+import static de.gematik.combine.filter.jexl.JexlAst.memberName;
+import static de.gematik.combine.filter.jexl.JexlAst.parseExpression;
+import static de.gematik.combine.filter.jexl.JexlAst.unwrap;
+import static de.gematik.utils.jexl.JexlExpressionCache.sharedCache;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import de.gematik.combine.model.TableCell;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import lombok.EqualsAndHashCode;
 import lombok.SneakyThrows;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.jexl3.MapContext;
+import org.apache.commons.jexl3.parser.ASTAndNode;
+import org.apache.commons.jexl3.parser.ASTArguments;
+import org.apache.commons.jexl3.parser.ASTEQNode;
+import org.apache.commons.jexl3.parser.ASTFalseNode;
+import org.apache.commons.jexl3.parser.ASTMethodNode;
+import org.apache.commons.jexl3.parser.ASTNENode;
+import org.apache.commons.jexl3.parser.ASTNotNode;
+import org.apache.commons.jexl3.parser.ASTNullLiteral;
+import org.apache.commons.jexl3.parser.ASTOrNode;
+import org.apache.commons.jexl3.parser.ASTReference;
+import org.apache.commons.jexl3.parser.ASTStringLiteral;
+import org.apache.commons.jexl3.parser.ASTTrueNode;
+import org.apache.commons.jexl3.parser.JexlNode;
 import org.apache.maven.plugin.MojoExecutionException;
 
 @EqualsAndHashCode
 public class JexlFilter {
 
-  public static final JexlEngine JEXL_ENGINE =
-      new JexlBuilder().strict(true).silent(false).safe(false).create();
+  /** Item methods that are safe to evaluate on their own, see {@link #splitConjuncts(String)} */
+  private static final Set<String> SAFE_METHODS = Set.of("hasTag", "hasProperty");
 
   private final JexlExpression expression;
 
-  @EqualsAndHashCode.Exclude private final JexlContext context = new MapContext();
+  /** Names of the variables the expression references, e.g. {@code A} for {@code A.value} */
+  @EqualsAndHashCode.Exclude private final Set<String> variables;
+
+  /** Each thread evaluates the expression in its own context, so filters can be shared. */
+  @EqualsAndHashCode.Exclude
+  private final ThreadLocal<JexlContext> context = ThreadLocal.withInitial(MapContext::new);
 
   public JexlFilter(String filterExpression) {
-    this.expression = JEXL_ENGINE.createExpression(filterExpression);
+    this.expression = sharedCache().expression(filterExpression, true);
+    this.variables =
+        sharedCache().script(filterExpression, true).getVariables().stream()
+            .map(path -> path.get(0))
+            .collect(toUnmodifiableSet());
   }
 
-  public <T> T evaluate() {
-    return evaluate(context);
+  /**
+   * Splits the expression at its top level {@code &&} operators, so each conjunct can be applied on
+   * its own. The conjuncts are cut from the source text, so their literals stay unchanged. Applied
+   * on its own, a conjunct is evaluated even if a preceding one is false, so the expression is only
+   * split if every conjunct is a side effect free comparison or tag and property check of string
+   * operands that cannot fail. Otherwise, or if it is no conjunction or cannot be parsed, the
+   * expression itself is returned.
+   */
+  public static List<String> splitConjuncts(String expression) {
+    JexlNode node = parseExpression(expression);
+    if (node == null) {
+      return List.of(expression);
+    }
+    List<JexlNode> conjuncts = new ArrayList<>();
+    collectConjuncts(node, conjuncts);
+    if (conjuncts.size() < 2 || !conjuncts.stream().allMatch(JexlFilter::isSafeCondition)) {
+      return List.of(expression);
+    }
+    List<String> sources = new ArrayList<>();
+    collectConjunctSources(expression.strip(), sources);
+    if (sources.size() != conjuncts.size()) {
+      return List.of(expression);
+    }
+    for (int i = 0; i < sources.size(); i++) {
+      JexlNode parsed = parseExpression(sources.get(i));
+      if (parsed == null || !sameStructure(parsed, conjuncts.get(i))) {
+        return List.of(expression);
+      }
+    }
+    return sources;
   }
 
-  public <T> void addToContext(String key, T value) {
-    context.set(key, value);
+  private static void collectConjuncts(JexlNode node, List<JexlNode> conjuncts) {
+    JexlNode unwrapped = unwrap(node);
+    if (unwrapped instanceof ASTAndNode) {
+      for (int i = 0; i < unwrapped.jjtGetNumChildren(); i++) {
+        collectConjuncts(unwrapped.jjtGetChild(i), conjuncts);
+      }
+    } else {
+      conjuncts.add(node);
+    }
   }
 
-  public void addToContext(JexlFilterColumn jexlFilterColumn) {
-    addToContext(jexlFilterColumn.getHeader(), jexlFilterColumn);
+  /** Cuts the source text the same way as {@link #collectConjuncts} splits the syntax tree */
+  private static void collectConjunctSources(String source, List<String> sources) {
+    List<String> parts = splitAtTopLevelAnd(source);
+    if (parts.size() > 1) {
+      parts.forEach(part -> collectConjunctSources(part, sources));
+      return;
+    }
+    if (source.startsWith("(") && closingParenthesis(source) == source.length() - 1) {
+      List<String> inner = new ArrayList<>();
+      collectConjunctSources(source.substring(1, source.length() - 1).strip(), inner);
+      if (inner.size() > 1) {
+        sources.addAll(inner);
+        return;
+      }
+    }
+    sources.add(source);
   }
 
-  public void addToContext(TableCell tableCell) {
-    addToContext(tableCell.getHeader(), tableCell.getCombineItem());
+  private static List<String> splitAtTopLevelAnd(String source) {
+    List<String> parts = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    for (int i = 0; i < source.length(); i++) {
+      char c = source.charAt(i);
+      if (isQuote(c)) {
+        i = endOfLiteral(source, i);
+      } else if (c == '(' || c == '[' || c == '{') {
+        depth++;
+      } else if (c == ')' || c == ']' || c == '}') {
+        depth--;
+      } else if (depth == 0 && (source.startsWith("&&", i) || isAndKeyword(source, i))) {
+        parts.add(source.substring(start, i).strip());
+        start = i + (c == '&' ? 2 : 3);
+        i = start - 1;
+      }
+    }
+    parts.add(source.substring(start).strip());
+    return parts;
   }
 
-  public void addToContext(List<TableCell> tableRow) {
-    tableRow.forEach(this::addToContext);
-    tableRow.forEach(
-        cell -> {
-          addTags(cell.getTags());
-          addProperties(cell.getProperties());
-        });
-    addToContext(COLUMN_COUNT.key, tableRow.size());
+  /** Returns the index of the parenthesis closing the one at the start of the source or -1 */
+  private static int closingParenthesis(String source) {
+    int depth = 0;
+    for (int i = 0; i < source.length(); i++) {
+      char c = source.charAt(i);
+      if (isQuote(c)) {
+        i = endOfLiteral(source, i);
+      } else if (c == '(') {
+        depth++;
+      } else if (c == ')' && --depth == 0) {
+        return i;
+      }
+    }
+    return -1;
   }
 
-  public void addTableInfoToContext(List<List<TableCell>> table) {
-    addToContext(ROW_COUNT.key, table.size());
-    if (table.isEmpty()) {
-      return;
+  private static boolean isQuote(char c) {
+    return c == '"' || c == '\'' || c == '`';
+  }
+
+  /** Returns the index of the quote closing the string literal starting at the given index */
+  private static int endOfLiteral(String source, int start) {
+    char quote = source.charAt(start);
+    int i = start + 1;
+    while (i < source.length() && source.charAt(i) != quote) {
+      i += source.charAt(i) == '\\' ? 2 : 1;
+    }
+    return i;
+  }
+
+  private static boolean isAndKeyword(String source, int index) {
+    int end = index + 3;
+    return source.startsWith("and", index)
+        && (index == 0 || !isNamePart(source.charAt(index - 1)))
+        && (end == source.length() || !isNamePart(source.charAt(end)));
+  }
+
+  private static boolean isNamePart(char c) {
+    return c == '.' || Character.isJavaIdentifierPart(c);
+  }
+
+  private static boolean sameStructure(JexlNode node, JexlNode other) {
+    if (node.getClass() != other.getClass()
+        || node.jjtGetNumChildren() != other.jjtGetNumChildren()) {
+      return false;
     }
-    addToContext(COLUMN_COUNT.key, table.get(0).size());
-    List<JexlFilterColumn> columns = toColumns(table);
-    for (var col : columns) {
-      addToContext(col);
+    for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+      if (!sameStructure(node.jjtGetChild(i), other.jjtGetChild(i))) {
+        return false;
+      }
     }
+    return true;
   }
 
-  @SuppressWarnings("unchecked")
-  private void addTags(Set<String> tags) {
-    Map<String, Integer> allTags = (Map<String, Integer>) context.get(ALL_TAGS.key);
-    if (allTags == null) {
-      allTags = new HashMap<>();
-      context.set(ALL_TAGS.key, allTags);
+  /**
+   * Returns true for {@code &&}, {@code ||} and {@code !} of the literals {@code true} and {@code
+   * false}, {@code ==} and {@code !=} between string operands and {@code <column>.hasTag("<tag>")}
+   * or {@code <column>.hasProperty("<name>")}. None of them has side effects or fails under the
+   * strict engine.
+   */
+  private static boolean isSafeCondition(JexlNode expression) {
+    JexlNode node = unwrap(expression);
+    if (node instanceof ASTTrueNode || node instanceof ASTFalseNode) {
+      return true;
+    }
+    if (node instanceof ASTNotNode || node instanceof ASTAndNode || node instanceof ASTOrNode) {
+      return allChildren(node, JexlFilter::isSafeCondition);
+    }
+    if (node instanceof ASTEQNode || node instanceof ASTNENode) {
+      return allChildren(node, JexlFilter::isStringOperand);
     }
-    final Map<String, Integer> finalAllTags = allTags;
-    tags.forEach(tag -> finalAllTags.put(tag, finalAllTags.getOrDefault(tag, 0) + 1));
+    return node instanceof ASTReference
+        && node.jjtGetNumChildren() == 2
+        && identifierName(node.jjtGetChild(0)) != null
+        && node.jjtGetChild(1) instanceof ASTMethodNode method
+        && SAFE_METHODS.contains(accessedName(method.jjtGetChild(0)))
+        && method.jjtGetNumChildren() == 2
+        && method.jjtGetChild(1) instanceof ASTArguments arguments
+        && arguments.jjtGetNumChildren() == 1
+        && arguments.jjtGetChild(0) instanceof ASTStringLiteral;
   }
 
-  @SuppressWarnings("unchecked")
-  private void addProperties(Map<String, String> properties) {
-    Map<String, Set<String>> allProps = (Map<String, Set<String>>) context.get(ALL_PROPERTIES.key);
-    if (allProps == null) {
-      allProps = new HashMap<>();
-      context.set(ALL_PROPERTIES.key, allProps);
+  /**
+   * Returns true for string and {@code null} literals, {@code <column>.value}, {@code
+   * <column>.url}, {@code <column>.properties.<name>} and {@code <column>.properties["<name>"]}
+   */
+  private static boolean isStringOperand(JexlNode expression) {
+    JexlNode node = unwrap(expression);
+    if (node instanceof ASTStringLiteral || node instanceof ASTNullLiteral) {
+      return true;
+    }
+    if (!(node instanceof ASTReference) || identifierName(node.jjtGetChild(0)) == null) {
+      return false;
+    }
+    int count = node.jjtGetNumChildren();
+    String member = count > 1 ? accessedName(node.jjtGetChild(1)) : null;
+    if (count == 2) {
+      return "value".equals(member) || "url".equals(member);
     }
-    final Map<String, Set<String>> finalAllProps = allProps;
-    properties.forEach(
-        (key, value) -> {
-          if (!finalAllProps.containsKey(key)) {
-            finalAllProps.put(key, new HashSet<>());
-          }
-          finalAllProps.get(key).add(value);
-        });
+    return count == 3 && "properties".equals(member) && memberName(node.jjtGetChild(2)) != null;
+  }
+
+  private static boolean allChildren(JexlNode node, Predicate<JexlNode> condition) {
+    for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+      if (!condition.test(node.jjtGetChild(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public <T> T evaluate() {
+    return evaluate(context.get());
   }
 
-  private List<JexlFilterColumn> toColumns(List<List<TableCell>> table) {
-    Map<String, List<TableCell>> columns =
-        table.stream().flatMap(Collection::stream).collect(groupingBy(TableCell::getHeader));
+  /** Returns true if the expression does not reference any variable, so its value is fixed. */
+  public boolean isConstant() {
+    return variables.isEmpty();
+  }
+
+  /**
+   * Returns the headers of the columns referenced by the expression as variables. Headers only
+   * occurring in string literals or as part of other names are not referenced.
+   */
+  public List<String> getReferencedColumns(List<String> headers) {
+    return headers.stream().filter(variables::contains).collect(toList());
+  }
+
+  /** Returns true if the expression references a row or table wide {@link JexlContextVariables} */
+  public boolean usesContextVariables() {
+    return Arrays.stream(JexlContextVariables.values()).anyMatch(v -> variables.contains(v.key));
+  }
+
+  /** Evaluates the expression without any variables, see {@link #isConstant()}. */
+  public <T> T evaluateConstant() {
+    return evaluate(new MapContext());
+  }
+
+  public <T> void addToContext(String key, T value) {
+    context.get().set(key, value);
+  }
 
-    return columns.entrySet().stream()
-        .map(kv -> new JexlFilterColumn(kv.getKey(), kv.getValue()))
-        .collect(toList());
+  public void addToContext(TableCell tableCell) {
+    addToContext(tableCell.getHeader(), tableCell.getCombineItem());
   }
 
+  /**
+   * Evaluates the expression in the given context, e.g. a {@link RowJexlContext} or {@link
+   * TableJexlContext}
+   */
   @SneakyThrows
   @SuppressWarnings("unchecked")
-  private <T> T evaluate(JexlContext context) {
+  public <T> T evaluate(JexlContext context) {
     try {
       return (T) this.expression.evaluate(context);
     } catch (Exception e) {
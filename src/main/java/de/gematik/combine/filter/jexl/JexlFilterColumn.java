@@ -21,9 +21,9 @@
 package de.gematik.combine.filter.jexl;
 
 import static de.gematik.combine.util.NonNullableMap.nonNullableMap;
-import static java.util.stream.Collectors.toList;
 
 import de.gematik.combine.model.TableCell;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,26 +40,32 @@ public class JexlFilterColumn {
 
   private final List<TableCell> column;
 
-  public Map<String, JexlFilterList<String>> getProperties() {
-    List<Entry<String, String>> entryList =
-        column.stream()
-            .flatMap(tableCell -> tableCell.getProperties().entrySet().stream())
-            .collect(toList());
+  /** Collected on first access, so expressions accessing them repeatedly scan the column once */
+  private Map<String, JexlFilterList<String>> properties;
 
-    Map<String, JexlFilterList<String>> properties = new HashMap<>();
+  private JexlFilterList<String> tags;
 
-    for (Entry<String, String> entry : entryList) {
-      if (!properties.containsKey(entry.getKey())) {
-        properties.put(entry.getKey(), new JexlFilterList<>());
+  public Map<String, JexlFilterList<String>> getProperties() {
+    if (properties == null) {
+      Map<String, JexlFilterList<String>> collected = new HashMap<>();
+      for (TableCell tableCell : column) {
+        for (Entry<String, String> entry : tableCell.getProperties().entrySet()) {
+          collected
+              .computeIfAbsent(entry.getKey(), key -> new JexlFilterList<>())
+              .add(entry.getValue());
+        }
       }
-      properties.get(entry.getKey()).add(entry.getValue());
+      properties = nonNullableMap(collected, key -> DEFAULT_PROPERTY);
     }
-
-    return nonNullableMap(properties, key -> DEFAULT_PROPERTY);
+    return properties;
   }
 
   public JexlFilterList<String> getTags() {
-    List<String> tags = column.stream().flatMap(tv -> tv.getTags().stream()).collect(toList());
-    return new JexlFilterList<>(tags);
+    if (tags == null) {
+      List<String> collected = new ArrayList<>();
+      column.forEach(tableCell -> collected.addAll(tableCell.getTags()));
+      tags = new JexlFilterList<>(collected);
+    }
+    return tags;
   }
 }
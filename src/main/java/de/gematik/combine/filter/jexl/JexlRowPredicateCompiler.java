@@ -0,0 +1,278 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static de.gematik.combine.filter.jexl.JexlAst.accessedName;
+import static de.gematik.combine.filter.jexl.JexlAst.identifierName;
+import static de.gematik.combine.filter.jexl.JexlAst.memberName;
+import static de.gematik.combine.filter.jexl.JexlAst.parseExpression;
+import static de.gematik.combine.filter.jexl.JexlAst.unwrap;
+
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableRow;
+import de.gematik.combine.model.TableSchema;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.commons.jexl3.parser.ASTAndNode;
+import org.apache.commons.jexl3.parser.ASTArguments;
+import org.apache.commons.jexl3.parser.ASTEQNode;
+import org.apache.commons.jexl3.parser.ASTFalseNode;
+import org.apache.commons.jexl3.parser.ASTMethodNode;
+import org.apache.commons.jexl3.parser.ASTNENode;
+import org.apache.commons.jexl3.parser.ASTNotNode;
+import org.apache.commons.jexl3.parser.ASTNullLiteral;
+import org.apache.commons.jexl3.parser.ASTOrNode;
+import org.apache.commons.jexl3.parser.ASTReference;
+import org.apache.commons.jexl3.parser.ASTStringLiteral;
+import org.apache.commons.jexl3.parser.ASTTrueNode;
+import org.apache.commons.jexl3.parser.JexlNode;
+
+/**
+ * Compiles row filter expressions of a supported subset of JEXL into predicates that access the
+ * row directly instead of being interpreted by JEXL. Supported are
+ *
+ * <ul>
+ *   <li>{@code &&}, {@code ||}, {@code !} and the literals {@code true} and {@code false},
+ *   <li>{@code ==} and {@code !=} between string operands,
+ *   <li>{@code <column>.hasTag(<operand>)}, {@code <column>.hasProperty(<operand>)} and {@code
+ *       <operand>.equals(<operand>)},
+ * </ul>
+ *
+ * where a string operand is a string or {@code null} literal, {@code <column>.value}, {@code
+ * <column>.url}, {@code <column>.properties.<name>} or {@code <column>.properties["<name>"]}. The
+ * compiled predicate reads the {@link CombineItem} the same way as JEXL would, so both yield the
+ * same result. Rows lacking a referenced column and expressions outside of the subset are
+ * evaluated by the fallback, which reports errors the same way as before.
+ */
+public class JexlRowPredicateCompiler {
+
+  private static final UnresolvedColumnException UNRESOLVED = new UnresolvedColumnException();
+
+  private JexlRowPredicateCompiler() {}
+
+  /**
+   * Returns a predicate evaluating the expression on a row, or the fallback if the expression is
+   * not supported. Columns are looked up by their header.
+   */
+  public static Predicate<List<TableCell>> compile(
+      String expression, Predicate<List<TableCell>> fallback) {
+    return compile(expression, null, fallback);
+  }
+
+  /**
+   * Returns a predicate evaluating the expression on rows and partial rows of the given schema, or
+   * the fallback if the expression is not supported. The columns are resolved to their ordinals in
+   * the schema once, rows with other columns at these ordinals are looked up by header.
+   */
+  public static Predicate<List<TableCell>> compile(
+      String expression, TableSchema schema, Predicate<List<TableCell>> fallback) {
+    JexlNode node = parseExpression(expression);
+    Predicate<List<TableCell>> compiled =
+        node == null ? null : new Compilation(schema).condition(node);
+    if (compiled == null) {
+      return fallback;
+    }
+    return row -> {
+      try {
+        return compiled.test(row);
+      } catch (UnresolvedColumnException e) {
+        return fallback.test(row);
+      }
+    };
+  }
+
+  private static class Compilation {
+
+    private final TableSchema schema;
+
+    private Compilation(TableSchema schema) {
+      this.schema = schema;
+    }
+
+    private Predicate<List<TableCell>> condition(JexlNode expression) {
+      JexlNode node = unwrap(expression);
+      if (node instanceof ASTTrueNode) {
+        return row -> true;
+      }
+      if (node instanceof ASTFalseNode) {
+        return row -> false;
+      }
+      if (node instanceof ASTNotNode) {
+        Predicate<List<TableCell>> operand = condition(node.jjtGetChild(0));
+        return operand == null ? null : operand.negate();
+      }
+      if (node instanceof ASTAndNode || node instanceof ASTOrNode) {
+        return junction(node, node instanceof ASTAndNode);
+      }
+      if (node instanceof ASTEQNode || node instanceof ASTNENode) {
+        Function<List<TableCell>, String> left = operand(node.jjtGetChild(0));
+        Function<List<TableCell>, String> right = operand(node.jjtGetChild(1));
+        if (left == null || right == null) {
+          return null;
+        }
+        Predicate<List<TableCell>> equal =
+            row -> Objects.equals(left.apply(row), right.apply(row));
+        return node instanceof ASTEQNode ? equal : equal.negate();
+      }
+      if (node instanceof ASTReference) {
+        return methodCall(node);
+      }
+      return null;
+    }
+
+    private Predicate<List<TableCell>> junction(JexlNode node, boolean and) {
+      List<Predicate<List<TableCell>>> operands = new ArrayList<>();
+      for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+        Predicate<List<TableCell>> operand = condition(node.jjtGetChild(i));
+        if (operand == null) {
+          return null;
+        }
+        operands.add(operand);
+      }
+      return operands.stream().reduce(and ? Predicate::and : Predicate::or).orElse(null);
+    }
+
+    private Predicate<List<TableCell>> methodCall(JexlNode reference) {
+      int count = reference.jjtGetNumChildren();
+      if (count < 2 || !(reference.jjtGetChild(count - 1) instanceof ASTMethodNode method)) {
+        return null;
+      }
+      String name = accessedName(method.jjtGetChild(0));
+      Function<List<TableCell>, String> argument = singleArgument(method);
+      if (name == null || argument == null) {
+        return null;
+      }
+      if (count == 2) {
+        Function<List<TableCell>, CombineItem> item = column(reference.jjtGetChild(0));
+        if (item == null) {
+          return null;
+        }
+        if (name.equals("hasTag")) {
+          return row -> item.apply(row).hasTag(argument.apply(row));
+        }
+        if (name.equals("hasProperty")) {
+          return row -> item.apply(row).hasProperty(argument.apply(row));
+        }
+        return null;
+      }
+      Function<List<TableCell>, String> receiver = reference(reference, count - 1);
+      if (receiver == null || !name.equals("equals")) {
+        return null;
+      }
+      return row -> {
+        String value = receiver.apply(row);
+        if (value == null) {
+          throw UNRESOLVED;
+        }
+        return value.equals(argument.apply(row));
+      };
+    }
+
+    private Function<List<TableCell>, String> singleArgument(ASTMethodNode method) {
+      if (method.jjtGetNumChildren() != 2
+          || !(method.jjtGetChild(1) instanceof ASTArguments arguments)
+          || arguments.jjtGetNumChildren() != 1) {
+        return null;
+      }
+      return operand(arguments.jjtGetChild(0));
+    }
+
+    private Function<List<TableCell>, String> operand(JexlNode expression) {
+      JexlNode node = unwrap(expression);
+      if (node instanceof ASTStringLiteral literal) {
+        String value = literal.getLiteral();
+        return row -> value;
+      }
+      if (node instanceof ASTNullLiteral) {
+        return row -> null;
+      }
+      if (node instanceof ASTReference) {
+        return reference(node, node.jjtGetNumChildren());
+      }
+      return null;
+    }
+
+    /** Compiles the first {@code length} children of a reference to a string valued accessor */
+    private Function<List<TableCell>, String> reference(JexlNode reference, int length) {
+      Function<List<TableCell>, CombineItem> item = column(reference.jjtGetChild(0));
+      String member = length > 1 ? accessedName(reference.jjtGetChild(1)) : null;
+      if (item == null || member == null) {
+        return null;
+      }
+      if (length == 2 && member.equals("value")) {
+        return row -> item.apply(row).getValue();
+      }
+      if (length == 2 && member.equals("url")) {
+        return row -> item.apply(row).getUrl();
+      }
+      if (length == 3 && member.equals("properties")) {
+        String property = memberName(reference.jjtGetChild(2));
+        return property == null ? null : row -> item.apply(row).getProperty(property);
+      }
+      return null;
+    }
+
+    /**
+     * Compiles a column identifier to an accessor of the item in that column, reading the cell at
+     * the ordinal of the column in the schema if its header matches
+     */
+    private Function<List<TableCell>, CombineItem> column(JexlNode node) {
+      String column = identifierName(node);
+      if (column == null) {
+        return null;
+      }
+      int ordinal = schema == null ? -1 : schema.ordinalOf(column);
+      if (ordinal < 0) {
+        return row -> item(row, column);
+      }
+      return row -> {
+        if (ordinal < row.size()) {
+          TableCell cell = row.get(ordinal);
+          if (column.equals(cell.getHeader())) {
+            return cell.getCombineItem();
+          }
+        }
+        return item(row, column);
+      };
+    }
+  }
+
+  private static CombineItem item(List<TableCell> row, String column) {
+    TableCell cell = TableRow.findCell(row, column);
+    if (cell == null) {
+      throw UNRESOLVED;
+    }
+    return cell.getCombineItem();
+  }
+
+  /** Signals that a row must be evaluated by JEXL, e.g. to report an undefined variable */
+  private static class UnresolvedColumnException extends RuntimeException {
+
+    UnresolvedColumnException() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static de.gematik.combine.filter.jexl.JexlContextVariables.ALL_PROPERTIES;
+import static de.gematik.combine.filter.jexl.JexlContextVariables.ALL_TAGS;
+import static de.gematik.combine.filter.jexl.JexlContextVariables.COLUMN_COUNT;
+
+import de.gematik.combine.model.TableCell;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.jexl3.JexlContext;
+
+/**
+ * A {@link JexlContext} that is a view over one table row. Columns are resolved by their header to
+ * the {@link de.gematik.combine.model.CombineItem CombineItem} of the row and the row wide
+ * variables {@code columnCount}, {@code allTags} and {@code allProperties} are computed on first
+ * access for each row.
+ *
+ * <p>A context is reused for all rows evaluated by one thread, so an evaluation does not copy the
+ * row. It must not be shared between threads.
+ */
+public class RowJexlContext implements JexlContext {
+
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private List<TableCell> row;
+  private Map<String, Integer> allTags;
+  private Map<String, Set<String>> allProperties;
+  private Map<String, Object> variables;
+
+  /** Binds the context to the row, dropping the values of the previous row */
+  public RowJexlContext bind(List<TableCell> row) {
+    this.row = row;
+    this.allTags = null;
+    this.allProperties = null;
+    this.variables = null;
+    return this;
+  }
+
+  /** Releases the row, so it is not retained after the evaluation */
+  public void clear() {
+    bind(null);
+  }
+
+  @Override
+  public Object get(String name) {
+    int ordinal = ordinal(name);
+    if (ordinal >= 0) {
+      return row.get(ordinal).getCombineItem();
+    }
+    if (COLUMN_COUNT.key.equals(name)) {
+      return row.size();
+    }
+    if (ALL_TAGS.key.equals(name)) {
+      return getAllTags();
+    }
+    if (ALL_PROPERTIES.key.equals(name)) {
+      return getAllProperties();
+    }
+    return variables == null ? null : variables.get(name);
+  }
+
+  @Override
+  public void set(String name, Object value) {
+    if (variables == null) {
+      variables = new HashMap<>();
+    }
+    variables.put(name, value);
+  }
+
+  @Override
+  public boolean has(String name) {
+    return ordinal(name) >= 0
+        || COLUMN_COUNT.key.equals(name)
+        || ALL_TAGS.key.equals(name)
+        || ALL_PROPERTIES.key.equals(name)
+        || (variables != null && variables.containsKey(name));
+  }
+
+  /**
+   * Returns the position of the column in the current row or -1. Rows evaluated by a filter mostly
+   * have the same columns, so the position found for the previous row is checked first.
+   */
+  private int ordinal(String header) {
+    if (row == null) {
+      return -1;
+    }
+    Integer known = ordinals.get(header);
+    if (known != null && known < row.size() && header.equals(row.get(known).getHeader())) {
+      return known;
+    }
+    for (int i = 0; i < row.size(); i++) {
+      if (header.equals(row.get(i).getHeader())) {
+        ordinals.put(header, i);
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private Map<String, Integer> getAllTags() {
+    if (allTags == null) {
+      allTags = new HashMap<>();
+      for (TableCell cell : row) {
+        cell.getTags().forEach(tag -> allTags.merge(tag, 1, Integer::sum));
+      }
+    }
+    return allTags;
+  }
+
+  private Map<String, Set<String>> getAllProperties() {
+    if (allProperties == null) {
+      allProperties = new HashMap<>();
+      for (TableCell cell : row) {
+        cell.getProperties()
+            .forEach(
+                (key, value) ->
+                    allProperties.computeIfAbsent(key, k -> new HashSet<>()).add(value));
+      }
+    }
+    return allProperties;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static de.gematik.combine.filter.jexl.JexlContextVariables.COLUMN_COUNT;
+import static de.gematik.combine.filter.jexl.JexlContextVariables.ROW_COUNT;
+
+import de.gematik.combine.model.TableCell;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.apache.commons.jexl3.JexlContext;
+
+/**
+ * A {@link JexlContext} over a snapshot of a whole table. Each column is available by its header as
+ * {@link JexlFilterColumn}, which collects the tags and properties of its items on first access
+ * and reuses them for all further accesses. Additionally, {@code rowCount} and {@code columnCount}
+ * are defined.
+ */
+public class TableJexlContext implements JexlContext {
+
+  private final int rowCount;
+  private final Map<String, JexlFilterColumn> columns = new LinkedHashMap<>();
+  private final Map<String, Object> variables = new HashMap<>();
+
+  public TableJexlContext(List<List<TableCell>> table) {
+    this.rowCount = table.size();
+    Map<String, List<TableCell>> cellsByHeader = new LinkedHashMap<>();
+    for (List<TableCell> row : table) {
+      for (TableCell cell : row) {
+        cellsByHeader.computeIfAbsent(cell.getHeader(), header -> new ArrayList<>()).add(cell);
+      }
+    }
+    for (Entry<String, List<TableCell>> column : cellsByHeader.entrySet()) {
+      columns.put(column.getKey(), new JexlFilterColumn(column.getKey(), column.getValue()));
+    }
+  }
+
+  public List<JexlFilterColumn> getColumns() {
+    return List.copyOf(columns.values());
+  }
+
+  @Override
+  public Object get(String name) {
+    JexlFilterColumn column = columns.get(name);
+    if (column != null) {
+      return column;
+    }
+    if (ROW_COUNT.key.equals(name)) {
+      return rowCount;
+    }
+    if (COLUMN_COUNT.key.equals(name)) {
+      return columns.size();
+    }
+    return variables.get(name);
+  }
+
+  @Override
+  public void set(String name, Object value) {
+    variables.put(name, value);
+  }
+
+  @Override
+  public boolean has(String name) {
+    return columns.containsKey(name)
+        || ROW_COUNT.key.equals(name)
+        || COLUMN_COUNT.key.equals(name)
+        || variables.containsKey(name);
+  }
+}
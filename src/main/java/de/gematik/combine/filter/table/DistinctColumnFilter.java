@@ -20,15 +20,12 @@
 
 package de.gematik.combine.filter.table;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
-import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableRow;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.function.Predicate;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -37,21 +34,26 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor
-public class DistinctColumnFilter extends AbstractTableFilter {
+public class DistinctColumnFilter extends AbstractTableFilter implements StreamableTableFilter {
 
   private final String columnName;
 
   @Override
   public List<List<TableCell>> apply(List<List<TableCell>> table) {
-    getPluginLog().debug(format("applying %s on %d rows", this, table.size()));
-    Set<String> combinationSet = new TreeSet<>();
+    return table.stream().filter(newRowPredicate()).collect(toList());
+  }
 
-    return table.stream().filter(row -> combinationSet.add(columnValue(row))).collect(toList());
+  @Override
+  public Predicate<List<TableCell>> newRowPredicate() {
+    RowKeySet combinationSet =
+        new RowKeySet(
+            row -> RowKeySet.mix(columnValue(row).hashCode()),
+            (row, other) -> columnValue(row).equals(columnValue(other)));
+    return combinationSet::add;
   }
 
   private String columnValue(List<TableCell> row) {
-    return row.stream()
-        .map(val -> val.getHeader().equals(columnName) ? val.getValue() : "")
-        .collect(joining());
+    TableCell cell = TableRow.findCell(row, columnName);
+    return cell == null ? "" : cell.getValue();
   }
 }
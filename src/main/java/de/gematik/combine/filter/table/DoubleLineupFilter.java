@@ -20,15 +20,11 @@
 
 package de.gematik.combine.filter.table;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
-import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import de.gematik.combine.model.TableCell;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.function.Predicate;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -39,7 +35,7 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor
-public class DoubleLineupFilter extends AbstractTableFilter {
+public class DoubleLineupFilter extends AbstractTableFilter implements StreamableTableFilter {
 
   private final boolean allow;
 
@@ -48,16 +44,54 @@ public class DoubleLineupFilter extends AbstractTableFilter {
     if (allow) {
       return table;
     }
-    getPluginLog().debug(format("applying %s on %d rows", this, table.size()));
-    Set<String> combinationSet = new TreeSet<>();
-
-    return table.stream()
-        .filter(
-            row -> {
-              String sortedCellValues =
-                  row.stream().map(TableCell::getValue).sorted().collect(joining());
-              return combinationSet.add(sortedCellValues);
-            })
-        .collect(toList());
+    return table.stream().filter(newRowPredicate()).collect(toList());
+  }
+
+  @Override
+  public boolean isOrderDependent() {
+    return !allow;
+  }
+
+  @Override
+  public Predicate<List<TableCell>> newRowPredicate() {
+    if (allow) {
+      return row -> true;
+    }
+    RowKeySet combinationSet =
+        new RowKeySet(DoubleLineupFilter::lineupHash, DoubleLineupFilter::sameLineup);
+    return combinationSet::add;
+  }
+
+  /** Combines the hashes of the values independent of their order. */
+  private static long lineupHash(List<TableCell> row) {
+    long hash = row.size();
+    for (int i = 0; i < row.size(); i++) {
+      hash += RowKeySet.mix(row.get(i).getValue().hashCode());
+    }
+    return hash;
+  }
+
+  /** Checks if both rows contain the same values equally often. */
+  private static boolean sameLineup(List<TableCell> row, List<TableCell> other) {
+    if (row.size() != other.size()) {
+      return false;
+    }
+    for (int i = 0; i < row.size(); i++) {
+      String value = row.get(i).getValue();
+      if (count(row, value) != count(other, value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int count(List<TableCell> row, String value) {
+    int count = 0;
+    for (int i = 0; i < row.size(); i++) {
+      if (row.get(i).getValue().equals(value)) {
+        count++;
+      }
+    }
+    return count;
   }
 }
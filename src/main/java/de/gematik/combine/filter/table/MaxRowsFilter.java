@@ -20,15 +20,15 @@
 
 package de.gematik.combine.filter.table;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
 import static de.gematik.combine.filter.FilterOrder.MAX_ROWS;
 import static java.lang.Math.min;
-import static java.lang.String.format;
 
 import de.gematik.combine.filter.FilterOrder;
 import de.gematik.combine.filter.jexl.JexlFilter;
+import de.gematik.combine.filter.jexl.TableJexlContext;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
+import java.util.OptionalInt;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -45,14 +45,28 @@ public class MaxRowsFilter extends AbstractTableFilter {
     this.jexlFilter = new JexlFilter(filterExpression);
   }
 
+  /**
+   * Evaluates the expression on a snapshot of the table. The aggregates of a column are collected
+   * once, however often the expression accesses them.
+   */
   @Override
   public List<List<TableCell>> apply(List<List<TableCell>> table) {
-    jexlFilter.addTableInfoToContext(table);
-    int maxRows = jexlFilter.evaluate();
-    getPluginLog().debug(format("applying %s on %d rows", this, table.size()));
+    int maxRows = jexlFilter.evaluate(new TableJexlContext(table));
     return table.subList(0, min(table.size(), maxRows));
   }
 
+  /**
+   * Returns the maximum number of rows if the expression does not depend on the table, so it is
+   * already known before the table is generated.
+   */
+  public OptionalInt getConstantMaxRows() {
+    if (!jexlFilter.isConstant()) {
+      return OptionalInt.empty();
+    }
+    Number maxRows = jexlFilter.evaluateConstant();
+    return OptionalInt.of(maxRows.intValue());
+  }
+
   @Override
   public FilterOrder getFilterOrder() {
     return MAX_ROWS;
@@ -20,18 +20,19 @@
 
 package de.gematik.combine.filter.table;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
-import static java.lang.String.format;
+import static de.gematik.combine.model.PropertyCodes.NOT_ENCODED;
 import static java.util.stream.Collectors.toList;
 
+import de.gematik.combine.model.ItemDictionary;
+import de.gematik.combine.model.PropertyCodes;
 import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableRow;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 /**
@@ -40,33 +41,59 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode
-@RequiredArgsConstructor
-public class MaxSameColumnPropertyFilter extends AbstractTableFilter {
+public class MaxSameColumnPropertyFilter extends AbstractTableFilter
+    implements StreamableTableFilter {
 
   private final String columnName;
   private final String property;
   private final int maxCount;
+  @ToString.Exclude @EqualsAndHashCode.Exclude private final PropertyCodes codes;
+
+  public MaxSameColumnPropertyFilter(String columnName, String property, int maxCount) {
+    this.columnName = columnName;
+    this.property = property;
+    this.maxCount = maxCount;
+    this.codes = new PropertyCodes(property);
+  }
 
   @Override
   public List<List<TableCell>> apply(List<List<TableCell>> table) {
-    getPluginLog().debug(format("applying %s on %d rows", this, table.size()));
-    Map<String, AtomicInteger> propCounts = new HashMap<>();
-    return table.stream().filter(row -> checkRow(row, propCounts)).collect(toList());
+    return table.stream().filter(newRowPredicate()).collect(toList());
   }
 
-  private boolean checkRow(List<TableCell> row, Map<String, AtomicInteger> propCounts) {
-    Optional<TableCell> cell =
-        row.stream().filter(tv -> tv.getHeader().equals(columnName)).findAny();
-    Optional<String> propValue = cell.map(tv -> tv.getProperties().get(property));
+  @Override
+  public Predicate<List<TableCell>> newRowPredicate() {
+    return new PropertyCounter()::checkRow;
+  }
 
-    if (propValue.isPresent() && !propCounts.containsKey(propValue.get())) {
-      propCounts.put(propValue.get(), new AtomicInteger());
-    }
+  /**
+   * Counts the property values of the rows seen so far. Values of the dictionary of the first
+   * frozen cell are counted in an array indexed by their code, all other values by name.
+   */
+  private class PropertyCounter {
+
+    private ItemDictionary dictionary;
+    private int[] codeCounts;
+    private final Map<String, AtomicInteger> valueCounts = new HashMap<>();
 
-    return propValue
-        .map(propCounts::get)
-        .map(AtomicInteger::incrementAndGet)
-        .map(count -> count <= maxCount)
-        .orElse(true);
+    private boolean checkRow(List<TableCell> row) {
+      TableCell cell = TableRow.findCell(row, columnName);
+      if (cell == null) {
+        return true;
+      }
+      if (dictionary == null) {
+        dictionary = PropertyCodes.dictionaryOf(List.of(cell));
+        if (dictionary != null) {
+          codeCounts = new int[codes.codeCount(dictionary)];
+        }
+      }
+      int code = dictionary == null ? NOT_ENCODED : codes.code(cell.getCombineItem(), dictionary);
+      if (code != NOT_ENCODED) {
+        return ++codeCounts[code] <= maxCount;
+      }
+      String propValue = cell.getProperty(property);
+      return valueCounts.computeIfAbsent(propValue, v -> new AtomicInteger()).incrementAndGet()
+          <= maxCount;
+    }
   }
 }
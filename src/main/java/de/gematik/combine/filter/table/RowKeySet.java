@@ -0,0 +1,95 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.filter.table;
+
+import de.gematik.combine.model.TableCell;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * An open-addressing hash set of rows that are compared by a key derived from the row. The set
+ * stores the 64-bit key hash in a primitive array next to the first row of each key, so adding a
+ * row does not allocate and two rows are only compared if their hashes are equal.
+ */
+class RowKeySet {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final ToLongFunction<List<TableCell>> keyHash;
+  private final BiPredicate<List<TableCell>, List<TableCell>> sameKey;
+  private long[] hashes = new long[INITIAL_CAPACITY];
+  private Object[] rows = new Object[INITIAL_CAPACITY];
+  private int size;
+
+  RowKeySet(
+      ToLongFunction<List<TableCell>> keyHash,
+      BiPredicate<List<TableCell>, List<TableCell>> sameKey) {
+    this.keyHash = keyHash;
+    this.sameKey = sameKey;
+  }
+
+  /** Adds the row and returns true if no row with the same key was added before. */
+  @SuppressWarnings("unchecked")
+  boolean add(List<TableCell> row) {
+    long hash = keyHash.applyAsLong(row);
+    int mask = hashes.length - 1;
+    int slot = (int) hash & mask;
+    while (rows[slot] != null) {
+      if (hashes[slot] == hash && sameKey.test((List<TableCell>) rows[slot], row)) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    hashes[slot] = hash;
+    rows[slot] = row;
+    if (++size * 2 > hashes.length) {
+      resize();
+    }
+    return true;
+  }
+
+  private void resize() {
+    long[] oldHashes = hashes;
+    Object[] oldRows = rows;
+    hashes = new long[oldHashes.length * 2];
+    rows = new Object[oldRows.length * 2];
+    int mask = hashes.length - 1;
+    for (int i = 0; i < oldRows.length; i++) {
+      if (oldRows[i] != null) {
+        int slot = (int) oldHashes[i] & mask;
+        while (rows[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        hashes[slot] = oldHashes[i];
+        rows[slot] = oldRows[i];
+      }
+    }
+  }
+
+  /** Spreads the bits of a hash code over 64 bits (finalizer of SplitMix64). */
+  static long mix(long hash) {
+    long z = hash + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
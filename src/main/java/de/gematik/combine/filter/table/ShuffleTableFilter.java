@@ -20,13 +20,12 @@
 
 package de.gematik.combine.filter.table;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
-import static java.lang.String.format;
 import static java.util.Collections.shuffle;
 
 import de.gematik.combine.model.TableCell;
 import java.util.ArrayList;
 import java.util.List;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
@@ -35,11 +34,10 @@ import lombok.ToString;
 @RequiredArgsConstructor
 public class ShuffleTableFilter extends AbstractTableFilter {
 
-  private final boolean shuffle;
+  @Getter private final boolean shuffle;
 
   @Override
   public List<List<TableCell>> apply(List<List<TableCell>> table) {
-    getPluginLog().debug(format("applying %s on %d rows", this, table.size()));
     if (!shuffle) {
       return table;
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.filter.table;
+
+import de.gematik.combine.model.TableCell;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A {@link TableFilter} that keeps or removes each row only depending on the rows it kept before
+ * and never reorders rows. It can therefore be evaluated row by row while the table is generated.
+ */
+public interface StreamableTableFilter extends TableFilter {
+
+  /**
+   * Creates a new predicate for one table. The predicate remembers the rows it accepted, so it has
+   * to be called for the rows in table order.
+   */
+  Predicate<List<TableCell>> newRowPredicate();
+
+  /**
+   * Returns true if the filter removes rows depending on the rows kept before, so its result
+   * changes with the order of the rows. Filters configured to keep every row return false.
+   */
+  default boolean isOrderDependent() {
+    return true;
+  }
+}
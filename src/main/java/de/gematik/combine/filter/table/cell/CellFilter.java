@@ -20,6 +20,7 @@
 
 package de.gematik.combine.filter.table.cell;
 
+import de.gematik.combine.execution.ProcessingContext;
 import de.gematik.combine.filter.project.ProjectCellFilter;
 import de.gematik.combine.filter.table.SoftFilter;
 import de.gematik.combine.model.TableCell;
@@ -33,7 +34,38 @@ import java.util.function.Predicate;
  */
 public interface CellFilter extends Predicate<TableCell>, SoftFilter {
 
+  /**
+   * Returns true if the result for this cell only depends on the filter (as defined by equals), the
+   * header and the item and the evaluation has no side effects, so it can be reused for equal
+   * filters of other tables.
+   */
+  default boolean isCacheable(TableCell tableCell) {
+    return false;
+  }
+
+  /** Like {@link #test(Object)}, for filters that depend on the executing mojo or report errors */
+  default boolean test(TableCell tableCell, ProcessingContext context) {
+    return test(tableCell);
+  }
+
+  /** Like {@link #isCacheable(TableCell)}, for filters that depend on the executing mojo */
+  default boolean isCacheable(TableCell tableCell, ProcessingContext context) {
+    return isCacheable(tableCell);
+  }
+
+  /** Combines both filters, passing the context on to filters that depend on it */
   default CellFilter and(CellFilter other) {
-    return value -> Predicate.super.and(other).test(value);
+    CellFilter first = this;
+    return new CellFilter() {
+      @Override
+      public boolean test(TableCell tableCell) {
+        return first.test(tableCell) && other.test(tableCell);
+      }
+
+      @Override
+      public boolean test(TableCell tableCell, ProcessingContext context) {
+        return first.test(tableCell, context) && other.test(tableCell, context);
+      }
+    };
   }
 }
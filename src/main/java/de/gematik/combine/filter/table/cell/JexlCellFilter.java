@@ -20,25 +20,38 @@
 
 package de.gematik.combine.filter.table.cell;
 
+import de.gematik.combine.filter.jexl.JexlCellQueryCompiler;
 import de.gematik.combine.filter.jexl.JexlFilter;
+import de.gematik.combine.model.FrozenItem;
+import de.gematik.combine.model.ItemDictionary;
 import de.gematik.combine.model.TableCell;
+import java.util.BitSet;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
 /**
  * This filter executes a <a
  * href="https://commons.apache.org/proper/commons-jexl/reference/syntax.html">JEXL-Expression</a>-{@link
  * java.util.function.Predicate Predicate} for a single cell value and filters accordingly.
+ *
+ * <p>Simple expressions on tags and properties are answered by the inverted index of the {@link
+ * ItemDictionary} of frozen items, see {@link JexlCellQueryCompiler}. The matching items are looked
+ * up once per dictionary, so testing a cell is a single bit lookup.
  */
 @EqualsAndHashCode
 public class JexlCellFilter extends AbstractCellFilter {
 
   private final String columnName;
   private final JexlFilter jexlFilter;
+  @EqualsAndHashCode.Exclude private final Function<ItemDictionary, BitSet> indexQuery;
+  @EqualsAndHashCode.Exclude private volatile IndexedItems indexedItems;
 
   public JexlCellFilter(String columnName, String filterExpression) {
     this.columnName = columnName;
     this.jexlFilter = new JexlFilter(filterExpression);
+    this.indexQuery = JexlCellQueryCompiler.compile(columnName, filterExpression);
   }
 
   @SneakyThrows
@@ -47,12 +60,36 @@ public class JexlCellFilter extends AbstractCellFilter {
     if (!columnName.equals(tableCell.getHeader())) {
       return true;
     }
+    FrozenItem frozen = tableCell.getCombineItem().frozen();
+    if (indexQuery != null && frozen != null) {
+      return matchingItems(frozen.getDictionary()).get(frozen.getOrdinal());
+    }
     jexlFilter.addToContext(tableCell);
     return jexlFilter.evaluate();
   }
 
+  private BitSet matchingItems(ItemDictionary dictionary) {
+    IndexedItems current = indexedItems;
+    if (current == null || current.dictionary != dictionary) {
+      current = new IndexedItems(dictionary, indexQuery.apply(dictionary));
+      indexedItems = current;
+    }
+    return current.items;
+  }
+
+  @Override
+  public boolean isCacheable(TableCell tableCell) {
+    return true;
+  }
+
   @Override
   public String toString() {
     return "JexlCellFilter(\"" + jexlFilter + "\")";
   }
+
+  @RequiredArgsConstructor
+  private static class IndexedItems {
+    private final ItemDictionary dictionary;
+    private final BitSet items;
+  }
 }
@@ -20,17 +20,19 @@
 
 package de.gematik.combine.filter.table.cell;
 
-import static de.gematik.combine.model.properties.Version.getSemanticVersion;
+import static de.gematik.combine.CombineMojo.ErrorType.PROPERTY;
+import static de.gematik.combine.execution.ProcessingContext.DEFAULT_VERSION_PROPERTY;
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
 
-import de.gematik.combine.CombineMojo;
+import de.gematik.combine.execution.ProcessingContext;
 import de.gematik.combine.model.TableCell;
 import de.gematik.combine.model.properties.Version;
 import de.gematik.combine.util.CompareOperator;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 
 /**
  * This filter removes cells in which the version property is not set or doesn't match the specified
@@ -44,21 +46,36 @@ public class VersionFilter extends AbstractCellFilter {
   private final CompareOperator operator;
   private final Version filterVersion;
 
+  /** Tests the cell against the {@link ProcessingContext#DEFAULT_VERSION_PROPERTY} */
   @Override
   public boolean test(TableCell tableCell) {
-    String versionProperty = CombineMojo.getInstance().getVersionProperty();
+    return test(tableCell, new ProcessingContext(new SystemStreamLog(), DEFAULT_VERSION_PROPERTY));
+  }
+
+  @Override
+  public boolean test(TableCell tableCell, ProcessingContext context) {
+    String versionProperty = context.getVersionProperty();
     if (!tableCell.hasProperty(versionProperty)) {
-      CombineMojo.appendError(
+      context.appendError(
           format(
               "version property is missing for -> value: %s%s",
               tableCell.getValue(),
               nonNull(tableCell.getUrl()) ? format(" url: %s", tableCell.getUrl()) : ""),
-          CombineMojo.ErrorType.PROPERTY);
+          PROPERTY);
       return false;
     }
 
-    Version itemVersion = getSemanticVersion(tableCell.getProperties().get(versionProperty));
-    return operator.includesResultOf(itemVersion.compareTo(filterVersion));
+    return matches(tableCell.getVersion(versionProperty));
+  }
+
+  public boolean matches(Version version) {
+    return operator.includesResultOf(version.compareTo(filterVersion));
+  }
+
+  /** Cells without version property are not cached, so every table reports them. */
+  @Override
+  public boolean isCacheable(TableCell tableCell, ProcessingContext context) {
+    return tableCell.hasProperty(context.getVersionProperty());
   }
 
   @Override
@@ -20,25 +20,63 @@
 
 package de.gematik.combine.filter.table.row;
 
+import static de.gematik.combine.model.PropertyCodes.NOT_ENCODED;
+
+import de.gematik.combine.model.ItemDictionary;
+import de.gematik.combine.model.PropertyCodes;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 
 /** This filter removes rows where not all entries have different values for a given property. */
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class DistinctRowPropertyFilter extends TableRowFilter {
 
   private final String property;
+  @EqualsAndHashCode.Exclude private final PropertyCodes codes;
+
+  public DistinctRowPropertyFilter(String property) {
+    this.property = property;
+    this.codes = new PropertyCodes(property);
+  }
 
   @Override
   public boolean test(List<TableCell> tableCells) {
+    ItemDictionary dictionary = PropertyCodes.dictionaryOf(tableCells);
+    if (dictionary != null) {
+      int[] rowCodes = encode(tableCells, dictionary);
+      if (rowCodes != null) {
+        return allDistinct(rowCodes);
+      }
+    }
     long distinctProperties =
         tableCells.stream()
-            .map(cell -> cell.getCombineItem().getProperties().get(property))
+            .map(cell -> cell.getCombineItem().getProperty(property))
             .distinct()
             .count();
     return distinctProperties == tableCells.size();
   }
+
+  private int[] encode(List<TableCell> tableCells, ItemDictionary dictionary) {
+    int[] rowCodes = new int[tableCells.size()];
+    for (int i = 0; i < rowCodes.length; i++) {
+      rowCodes[i] = codes.code(tableCells.get(i).getCombineItem(), dictionary);
+      if (rowCodes[i] == NOT_ENCODED) {
+        return null;
+      }
+    }
+    return rowCodes;
+  }
+
+  /** Rows have only a few cells, so comparing all pairs is cheaper than hashing. */
+  private static boolean allDistinct(int[] rowCodes) {
+    for (int i = 1; i < rowCodes.length; i++) {
+      for (int j = 0; j < i; j++) {
+        if (rowCodes[i] == rowCodes[j]) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
 }
@@ -20,25 +20,49 @@
 
 package de.gematik.combine.filter.table.row;
 
+import static de.gematik.combine.model.PropertyCodes.NOT_ENCODED;
+
+import de.gematik.combine.model.ItemDictionary;
+import de.gematik.combine.model.PropertyCodes;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 /** This filter removes rows where not all entries have the same value for a given property. */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class EqualRowPropertyFilter extends TableRowFilter {
 
   private final String property;
+  @ToString.Exclude @EqualsAndHashCode.Exclude private final PropertyCodes codes;
+
+  public EqualRowPropertyFilter(String property) {
+    this.property = property;
+    this.codes = new PropertyCodes(property);
+  }
 
   @Override
   public boolean test(List<TableCell> tableRow) {
+    ItemDictionary dictionary = PropertyCodes.dictionaryOf(tableRow);
+    if (dictionary != null) {
+      int first = codes.code(tableRow.get(0).getCombineItem(), dictionary);
+      boolean encoded = first != NOT_ENCODED;
+      for (int i = 1; encoded && i < tableRow.size(); i++) {
+        int code = codes.code(tableRow.get(i).getCombineItem(), dictionary);
+        if (code == NOT_ENCODED) {
+          encoded = false;
+        } else if (code != first) {
+          return false;
+        }
+      }
+      if (encoded) {
+        return true;
+      }
+    }
     long distinctValues =
         tableRow.stream()
-            .map(val -> val.getCombineItem().getProperties().get(property))
+            .map(val -> val.getCombineItem().getProperty(property))
             .distinct()
             .count();
     return distinctValues == 1;
@@ -20,11 +20,14 @@
 
 package de.gematik.combine.filter.table.row;
 
-import static java.util.stream.Collectors.toList;
+import static de.gematik.combine.filter.jexl.JexlRowPredicateCompiler.compile;
 
 import de.gematik.combine.filter.jexl.JexlFilter;
+import de.gematik.combine.filter.jexl.RowJexlContext;
 import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
 import java.util.List;
+import java.util.function.Predicate;
 import lombok.EqualsAndHashCode;
 import lombok.SneakyThrows;
 import lombok.ToString;
@@ -40,21 +43,54 @@ public class JexlRowFilter extends TableRowFilter {
 
   final JexlFilter jexlFilter;
 
+  /** Each thread evaluates rows in its own context, so filters can be shared. */
+  @ToString.Exclude @EqualsAndHashCode.Exclude
+  private final ThreadLocal<RowJexlContext> context = ThreadLocal.withInitial(RowJexlContext::new);
+
+  /** The expression compiled to a predicate or {@link #evaluate(List)} if it is not supported */
+  @ToString.Exclude @EqualsAndHashCode.Exclude private final Predicate<List<TableCell>> predicate;
+
   public JexlRowFilter(String filterExpression) {
     this.jexlFilter = new JexlFilter(filterExpression);
+    this.predicate = compile(filterExpression, this::evaluate);
+  }
+
+  private JexlRowFilter(JexlRowFilter filter, TableSchema schema) {
+    this.jexlFilter = filter.jexlFilter;
+    this.predicate = compile(jexlFilter.toString(), schema, this::evaluate);
+    setSoft(filter.isSoft());
+  }
+
+  /** Returns a copy of this filter that resolves the referenced columns to their ordinals */
+  @Override
+  public JexlRowFilter forSchema(TableSchema schema) {
+    return new JexlRowFilter(this, schema);
   }
 
   @Override
-  @SneakyThrows
   public boolean test(List<TableCell> tableRow) {
-    jexlFilter.addToContext(tableRow);
-    return this.jexlFilter.evaluate();
+    return predicate.test(tableRow);
+  }
+
+  @SneakyThrows
+  private boolean evaluate(List<TableCell> tableRow) {
+    RowJexlContext rowContext = context.get().bind(tableRow);
+    try {
+      return this.jexlFilter.evaluate(rowContext);
+    } finally {
+      rowContext.clear();
+    }
   }
 
+  /**
+   * Returns the columns referenced by the expression. Expressions using row wide context variables
+   * like {@code columnCount} or {@code allTags} require all columns.
+   */
   @Override
   public List<String> getRequiredColumns(List<String> headers) {
-    return headers.stream()
-        .filter(header -> jexlFilter.toString().contains(header))
-        .collect(toList());
+    if (jexlFilter.usesContextVariables()) {
+      return headers;
+    }
+    return jexlFilter.getReferencedColumns(headers);
   }
 }
@@ -40,6 +40,6 @@ public class RequirePropertyRowFilter extends TableRowFilter {
 
   @Override
   public boolean test(List<TableCell> row) {
-    return row.stream().anyMatch(cell -> propertyValue.equals(cell.getProperties().get(property)));
+    return row.stream().anyMatch(cell -> propertyValue.equals(cell.getProperty(property)));
   }
 }
@@ -22,6 +22,7 @@ package de.gematik.combine.filter.table.row;
 
 import de.gematik.combine.filter.project.ProjectRowFilter;
 import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
@@ -38,6 +39,15 @@ public interface RowFilter extends Predicate<List<TableCell>> {
     return Collections.emptyList();
   }
 
+  /**
+   * Returns this filter prepared for rows and partial rows of the given schema, e.g. with the
+   * referenced columns resolved to their ordinals. The result is only applied to rows of the
+   * schema.
+   */
+  default RowFilter forSchema(TableSchema schema) {
+    return this;
+  }
+
   default RowFilter and(RowFilter other) {
     return row -> Predicate.super.and(other).test(row);
   }
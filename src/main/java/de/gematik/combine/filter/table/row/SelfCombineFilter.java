@@ -20,11 +20,8 @@
 
 package de.gematik.combine.filter.table.row;
 
-import static java.util.stream.Collectors.toSet;
-
 import de.gematik.combine.model.TableCell;
 import java.util.List;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
@@ -40,7 +37,15 @@ public class SelfCombineFilter extends TableRowFilter {
     if (allow) {
       return true;
     }
-    Set<String> rowValues = tableRow.stream().map(TableCell::getValue).collect(toSet());
-    return rowValues.size() == tableRow.size();
+    // rows are short, so comparing all pairs is cheaper than collecting the values into a set
+    for (int i = 1; i < tableRow.size(); i++) {
+      String value = tableRow.get(i).getValue();
+      for (int j = 0; j < i; j++) {
+        if (value.equals(tableRow.get(j).getValue())) {
+          return false;
+        }
+      }
+    }
+    return true;
   }
 }
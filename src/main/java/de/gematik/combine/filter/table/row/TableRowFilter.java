@@ -20,10 +20,8 @@
 
 package de.gematik.combine.filter.table.row;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
 import static de.gematik.combine.filter.FilterOrder.ROW_ONLY;
 import static java.lang.Math.min;
-import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
 import de.gematik.combine.filter.FilterOrder;
@@ -43,17 +41,12 @@ public abstract class TableRowFilter extends AbstractTableFilter implements RowF
 
   @Override
   public List<List<TableCell>> apply(List<List<TableCell>> tableRows) {
-    getPluginLog().debug(format("applying %s on %d rows", this, tableRows.size()));
     List<List<TableCell>> result = new ArrayList<>();
 
-    int chunkCount = tableRows.size() / CHUNK_SIZE + 1;
     for (int i = 0; i < tableRows.size(); i += CHUNK_SIZE) {
       List<List<TableCell>> chunk = tableRows.subList(i, min(i + CHUNK_SIZE, tableRows.size()));
       List<List<TableCell>> filteredChunk = chunk.stream().filter(this).collect(toList());
       result.addAll(filteredChunk);
-      if (chunkCount > 1) {
-        getPluginLog().debug(format("processing chunk %d of %d", i / CHUNK_SIZE + 1, chunkCount));
-      }
     }
     return result;
   }
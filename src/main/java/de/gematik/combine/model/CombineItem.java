@@ -20,23 +20,28 @@
 
 package de.gematik.combine.model;
 
+import static de.gematik.combine.model.properties.Version.getSemanticVersion;
 import static de.gematik.combine.util.NonNullableMap.nonNullableMap;
 import static java.util.Objects.nonNull;
 
-import de.gematik.combine.CombineMojo;
+import de.gematik.combine.model.properties.Version;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.Singular;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import lombok.SneakyThrows;
-
 @Data
 @Builder(toBuilder = true)
 @NoArgsConstructor
@@ -59,6 +64,12 @@ public class CombineItem implements Comparable<CombineItem> {
 
   @EqualsAndHashCode.Exclude private String checkExpressionId;
 
+  /** State derived from the tags and properties during the combine phase, not serialized. */
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private final transient Derived derived = new Derived();
+
   public String toString() {
     return value;
   }
@@ -73,8 +84,44 @@ public class CombineItem implements Comparable<CombineItem> {
     return properties.containsKey(property);
   }
 
+  /**
+   * Returns the properties, a missing property has the value {@link #DEFAULT_PROPERTY}. The view is
+   * created once for each properties map. It is published without locking, threads racing on the
+   * first access may each create an equivalent view.
+   */
   public Map<String, String> getProperties() {
-    return nonNullableMap(properties, this::getDefaultPropertyAndLog);
+    PropertiesView view = derived.propertiesView;
+    if (view == null || view.properties != properties) {
+      view = new PropertiesView(properties, nonNullableMap(properties, this::getDefaultProperty));
+      derived.propertiesView = view;
+    }
+    return view.view;
+  }
+
+  /**
+   * Returns the value of the property or {@link #DEFAULT_PROPERTY} if the item does not have it,
+   * like {@code getProperty(key)} but without creating a view of the properties.
+   */
+  public String getProperty(String key) {
+    String value = properties.get(key);
+    return value == null ? getDefaultProperty(key) : value;
+  }
+
+  /**
+   * Returns the compact representation created by {@link ItemDictionary#freeze(java.util.List)} or
+   * null if the item was not frozen or its tags or properties were replaced since.
+   */
+  public FrozenItem frozen() {
+    FrozenItem frozen = derived.frozen;
+    return frozen != null && frozen.isFrozenFrom(properties, tags) ? frozen : null;
+  }
+
+  void setFrozen(FrozenItem frozen) {
+    derived.frozen = frozen;
+  }
+
+  Map<String, String> getRawProperties() {
+    return properties;
   }
 
   @Override
@@ -82,12 +129,59 @@ public class CombineItem implements Comparable<CombineItem> {
     return value.compareTo(other.value);
   }
 
-  private String getDefaultPropertyAndLog(String key) {
-    CombineMojo.getPluginLog().info(String.format("item %s does not have property %s", value, key));
+  /**
+   * Returns the properties that were accessed although the item does not have them, in their
+   * natural order. The caller reports them once after processing, however often they were accessed.
+   */
+  public SortedSet<String> missingProperties() {
+    return derived.missingProperties;
+  }
+
+  private String getDefaultProperty(String key) {
+    derived.missingProperties.add(key);
     return DEFAULT_PROPERTY;
   }
 
+  /**
+   * Returns the version in the given property. It is parsed only once as long as the property keeps
+   * its value.
+   *
+   * @throws java.lang.reflect.MalformedParametersException if the value is not a version
+   */
+  public Version getVersion(String property) {
+    String source = properties.get(property);
+    if (source == null) {
+      source = DEFAULT_PROPERTY;
+    }
+    ParsedVersion parsed = derived.parsedVersion;
+    if (parsed == null || !parsed.property.equals(property) || !parsed.source.equals(source)) {
+      parsed = new ParsedVersion(property, source, getSemanticVersion(source));
+      derived.parsedVersion = parsed;
+    }
+    return parsed.version;
+  }
+
   public String produceValueUrl() {
     return nonNull(this.url) ? value + " ---> " + url : value;
   }
+
+  private static class Derived {
+    private volatile PropertiesView propertiesView;
+    private volatile FrozenItem frozen;
+    private final SortedSet<String> missingProperties = new ConcurrentSkipListSet<>();
+    private volatile ParsedVersion parsedVersion;
+  }
+
+  @RequiredArgsConstructor
+  private static class PropertiesView {
+    private final Map<String, String> properties;
+    private final Map<String, String> view;
+  }
+
+  @RequiredArgsConstructor
+  private static class ParsedVersion {
+    private final String property;
+    private final String source;
+    private final Version version;
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.model;
+
+import static de.gematik.combine.model.ItemDictionary.MISSING;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * The compact, immutable representation of a {@link CombineItem} over the ids of an {@link
+ * ItemDictionary}: one value id per property key and the tags as {@link BitSet}.
+ */
+public final class FrozenItem {
+
+  @Getter private final ItemDictionary dictionary;
+  /** The position of the item in the frozen items, used by the index of the dictionary */
+  @Getter private final int ordinal;
+  private final int[] valueIds;
+  private final BitSet tags = new BitSet();
+  private final Map<String, String> sourceProperties;
+  private final Set<String> sourceTags;
+
+  FrozenItem(ItemDictionary dictionary, CombineItem item, int ordinal) {
+    this.dictionary = dictionary;
+    this.ordinal = ordinal;
+    this.sourceProperties = item.getRawProperties();
+    this.sourceTags = item.getTags();
+    this.valueIds = new int[dictionary.keyCount()];
+    Arrays.fill(valueIds, MISSING);
+    sourceProperties.forEach(
+        (key, value) -> {
+          if (value != null) {
+            valueIds[dictionary.keyId(key)] = dictionary.valueId(value);
+          }
+        });
+    sourceTags.forEach(tag -> tags.set(dictionary.tagId(tag)));
+  }
+
+  /** Returns the id of the value of the property or {@link ItemDictionary#MISSING} */
+  public int valueId(int keyId) {
+    return keyId >= 0 && keyId < valueIds.length ? valueIds[keyId] : MISSING;
+  }
+
+  public boolean hasTag(int tagId) {
+    return tagId >= 0 && tags.get(tagId);
+  }
+
+  /** Returns true if the item was frozen from the given tags and properties */
+  boolean isFrozenFrom(Map<String, String> properties, Set<String> tags) {
+    return sourceProperties == properties && sourceTags == tags;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns the property keys, property values and tags of the items of one run to dense ids and
+ * {@link #freeze(List) freezes} the items to a compact {@link FrozenItem} over these ids. Filters
+ * can then compare properties and tags by id without hashing or allocating strings.
+ *
+ * <p>The dictionary also is an inverted index of the items: for every tag, property key and
+ * property value it knows the {@link FrozenItem#getOrdinal() ordinals} of the items having them as
+ * {@link BitSet}, so simple cell filters can be answered by lookups and bitset operations.
+ *
+ * <p>The dictionary is immutable after {@link #freeze(List)} and can be shared between threads.
+ */
+public class ItemDictionary {
+
+  /** Id of a key, value or tag that is not part of the dictionary or a property that is missing */
+  public static final int MISSING = -1;
+
+  private final Map<String, Integer> keyIds = new HashMap<>();
+  private final List<String> keys = new ArrayList<>();
+  private final Map<String, Integer> valueIds = new HashMap<>();
+  private final List<String> values = new ArrayList<>();
+  private final Map<String, Integer> tagIds = new HashMap<>();
+  private final List<String> tags = new ArrayList<>();
+  private final List<BitSet> itemsByTag = new ArrayList<>();
+  private final List<BitSet> itemsByKey = new ArrayList<>();
+  private final Map<Long, BitSet> itemsByValue = new HashMap<>();
+  private int itemCount;
+
+  private ItemDictionary() {}
+
+  /**
+   * Creates the dictionary of the items and freezes each item, so {@link CombineItem#frozen()}
+   * returns its compact representation until its tags or properties are replaced.
+   */
+  public static ItemDictionary freeze(List<CombineItem> items) {
+    ItemDictionary dictionary = new ItemDictionary();
+    for (CombineItem item : items) {
+      item.getRawProperties()
+          .forEach(
+              (key, value) -> {
+                intern(key, dictionary.keyIds, dictionary.keys);
+                intern(value, dictionary.valueIds, dictionary.values);
+              });
+      item.getTags().forEach(tag -> intern(tag, dictionary.tagIds, dictionary.tags));
+    }
+    dictionary.tags.forEach(tag -> dictionary.itemsByTag.add(new BitSet()));
+    dictionary.keys.forEach(key -> dictionary.itemsByKey.add(new BitSet()));
+    for (CombineItem item : items) {
+      dictionary.index(item, dictionary.itemCount++);
+    }
+    return dictionary;
+  }
+
+  private void index(CombineItem item, int ordinal) {
+    item.setFrozen(new FrozenItem(this, item, ordinal));
+    item.getRawProperties()
+        .forEach(
+            (key, value) -> {
+              int keyId = keyId(key);
+              itemsByKey.get(keyId).set(ordinal);
+              if (value != null) {
+                itemsByValue.computeIfAbsent(pair(keyId, valueId(value)), p -> new BitSet())
+                    .set(ordinal);
+              }
+            });
+    item.getTags().forEach(tag -> itemsByTag.get(tagId(tag)).set(ordinal));
+  }
+
+  private static long pair(int keyId, int valueId) {
+    return ((long) keyId << Integer.SIZE) | (valueId & 0xFFFFFFFFL);
+  }
+
+  private static void intern(String string, Map<String, Integer> ids, List<String> strings) {
+    if (string != null && !ids.containsKey(string)) {
+      ids.put(string, strings.size());
+      strings.add(string);
+    }
+  }
+
+  public int keyId(String key) {
+    return keyIds.getOrDefault(key, MISSING);
+  }
+
+  public int valueId(String value) {
+    return valueIds.getOrDefault(value, MISSING);
+  }
+
+  public int tagId(String tag) {
+    return tagIds.getOrDefault(tag, MISSING);
+  }
+
+  public String key(int keyId) {
+    return keys.get(keyId);
+  }
+
+  public String value(int valueId) {
+    return values.get(valueId);
+  }
+
+  public String tag(int tagId) {
+    return tags.get(tagId);
+  }
+
+  public int keyCount() {
+    return keys.size();
+  }
+
+  public int valueCount() {
+    return values.size();
+  }
+
+  public int tagCount() {
+    return tags.size();
+  }
+
+  /** Returns the number of frozen items, their ordinals lie in {@code [0, itemCount())} */
+  public int itemCount() {
+    return itemCount;
+  }
+
+  /** Returns a new {@link BitSet} of the ordinals of the items having the tag */
+  public BitSet itemsWithTag(String tag) {
+    int tagId = tagId(tag);
+    return tagId == MISSING ? new BitSet() : (BitSet) itemsByTag.get(tagId).clone();
+  }
+
+  /** Returns a new {@link BitSet} of the ordinals of the items having the property */
+  public BitSet itemsWithProperty(String key) {
+    int keyId = keyId(key);
+    return keyId == MISSING ? new BitSet() : (BitSet) itemsByKey.get(keyId).clone();
+  }
+
+  /** Returns a new {@link BitSet} of the ordinals of the items having the property value */
+  public BitSet itemsWithPropertyValue(String key, String value) {
+    BitSet items = itemsByValue.get(pair(keyId(key), valueId(value)));
+    return items == null ? new BitSet() : (BitSet) items.clone();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.model;
+
+import static de.gematik.combine.model.CombineItem.DEFAULT_PROPERTY;
+import static de.gematik.combine.model.ItemDictionary.MISSING;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Encodes the value of one property of the items of a table to an int code of the {@link
+ * ItemDictionary} the items are frozen against. Equal values have equal codes, a missing property
+ * has the code of {@link CombineItem#DEFAULT_PROPERTY}. The codes of a dictionary lie in {@code [0,
+ * codeCount(dictionary))}, so filters can compare them directly and count them in arrays.
+ *
+ * <p>Items that are not frozen against the dictionary are encoded by looking up their value. A
+ * value that is not part of the dictionary has the code {@link #NOT_ENCODED} and callers have to
+ * fall back to comparing the values.
+ */
+public final class PropertyCodes {
+
+  public static final int NOT_ENCODED = -1;
+
+  private final String property;
+  private volatile Encoding encoding;
+
+  public PropertyCodes(String property) {
+    this.property = property;
+  }
+
+  /** Returns the dictionary of the first frozen cell of the row or null if no cell is frozen */
+  public static ItemDictionary dictionaryOf(List<TableCell> row) {
+    for (TableCell cell : row) {
+      FrozenItem frozen = cell.getCombineItem().frozen();
+      if (frozen != null) {
+        return frozen.getDictionary();
+      }
+    }
+    return null;
+  }
+
+  public int codeCount(ItemDictionary dictionary) {
+    return dictionary.valueCount() + 1;
+  }
+
+  /** Returns the code of the value of the property of the item or {@link #NOT_ENCODED} */
+  public int code(CombineItem item, ItemDictionary dictionary) {
+    Encoding current = encoding(dictionary);
+    FrozenItem frozen = item.frozen();
+    if (frozen != null && frozen.getDictionary() == dictionary) {
+      int valueId = frozen.valueId(current.keyId);
+      if (valueId != MISSING) {
+        return valueId;
+      }
+      // logs the missing property like the lookup by name would
+      item.getProperty(property);
+      return current.missingCode;
+    }
+    String value = item.getProperty(property);
+    if (DEFAULT_PROPERTY.equals(value)) {
+      return current.missingCode;
+    }
+    int valueId = dictionary.valueId(value);
+    return valueId == MISSING ? NOT_ENCODED : valueId;
+  }
+
+  private Encoding encoding(ItemDictionary dictionary) {
+    Encoding current = encoding;
+    if (current == null || current.dictionary != dictionary) {
+      int defaultId = dictionary.valueId(DEFAULT_PROPERTY);
+      current =
+          new Encoding(
+              dictionary,
+              dictionary.keyId(property),
+              defaultId == MISSING ? dictionary.valueCount() : defaultId);
+      encoding = current;
+    }
+    return current;
+  }
+
+  @RequiredArgsConstructor
+  private static final class Encoding {
+
+    private final ItemDictionary dictionary;
+    private final int keyId;
+    private final int missingCode;
+  }
+}
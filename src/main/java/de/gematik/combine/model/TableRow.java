@@ -0,0 +1,80 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.combine.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import lombok.Getter;
+
+/**
+ * A compact, immutable table row holding only the item id of each column. The cells are looked up
+ * in the {@link TableSchema} of the table, so accessing a cell by column ordinal or name is O(1).
+ */
+public class TableRow extends AbstractList<TableCell> implements RandomAccess {
+
+  @Getter private final TableSchema schema;
+  private final int[] itemIds;
+
+  TableRow(TableSchema schema, int[] itemIds) {
+    if (itemIds.length != schema.getColumns().size()) {
+      throw new IllegalArgumentException(
+          "row has " + itemIds.length + " values for " + schema.getColumns().size() + " columns");
+    }
+    this.schema = schema;
+    this.itemIds = itemIds;
+  }
+
+  @Override
+  public TableCell get(int ordinal) {
+    return schema.cell(ordinal, itemIds[ordinal]);
+  }
+
+  @Override
+  public int size() {
+    return itemIds.length;
+  }
+
+  public int getItemId(int ordinal) {
+    return itemIds[ordinal];
+  }
+
+  /** Returns the cell of the given column or null if the row does not have this column. */
+  public TableCell getCell(String column) {
+    int ordinal = schema.ordinalOf(column);
+    return ordinal < 0 ? null : get(ordinal);
+  }
+
+  /**
+   * Returns the cell of the given column, directly for a {@link TableRow} and by searching the
+   * headers for other rows, or null if the row does not have this column.
+   */
+  public static TableCell findCell(List<TableCell> row, String column) {
+    if (row instanceof TableRow tableRow) {
+      return tableRow.getCell(column);
+    }
+    for (TableCell cell : row) {
+      if (cell.getHeader().equals(column)) {
+        return cell;
+      }
+    }
+    return null;
+  }
+}
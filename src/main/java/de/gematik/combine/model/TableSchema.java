@@ -0,0 +1,110 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.combine.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * The schema of one generated table. It maps the column names to ordinals and interns the items of
+ * the prepared columns to dense ids, so a row can be stored as a {@link TableRow} holding one item
+ * id per column. The {@link TableCell}s are created once per column and item and shared by all
+ * rows.
+ *
+ * <p>Items are identified by identity, because items with equal values may still differ in their
+ * tags and properties.
+ *
+ * <p>The schema is immutable after construction and can be shared between threads.
+ */
+public class TableSchema {
+
+  @Getter private final List<String> columns;
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private final Map<CombineItem, Integer> itemIds = new IdentityHashMap<>();
+  private final List<CombineItem> items = new ArrayList<>();
+  private final TableCell[][] cells;
+
+  /**
+   * @param columns the column names in table order
+   * @param preparedColumns the possible cells of each column, cells may belong to other columns
+   *     only if they do not appear in generated rows
+   */
+  public TableSchema(List<String> columns, List<List<TableCell>> preparedColumns) {
+    this.columns = List.copyOf(columns);
+    for (int ordinal = 0; ordinal < columns.size(); ordinal++) {
+      ordinals.putIfAbsent(columns.get(ordinal), ordinal);
+    }
+    for (List<TableCell> preparedColumn : preparedColumns) {
+      preparedColumn.forEach(cell -> itemIds.computeIfAbsent(cell.getCombineItem(), this::addItem));
+    }
+    this.cells = new TableCell[preparedColumns.size()][items.size()];
+    for (int ordinal = 0; ordinal < preparedColumns.size(); ordinal++) {
+      for (TableCell cell : preparedColumns.get(ordinal)) {
+        cells[ordinal][itemIds.get(cell.getCombineItem())] = cell;
+      }
+    }
+  }
+
+  private int addItem(CombineItem item) {
+    items.add(item);
+    return items.size() - 1;
+  }
+
+  /** Returns the ordinal of the column or -1 if the table does not have this column. */
+  public int ordinalOf(String column) {
+    return ordinals.getOrDefault(column, -1);
+  }
+
+  /** Returns the dense id of a prepared item. */
+  public int itemId(CombineItem item) {
+    Integer id = itemIds.get(item);
+    if (id == null) {
+      throw new IllegalArgumentException("item " + item + " is not part of the table schema");
+    }
+    return id;
+  }
+
+  public CombineItem item(int itemId) {
+    return items.get(itemId);
+  }
+
+  public int itemCount() {
+    return items.size();
+  }
+
+  /** Returns the shared cell of the given column holding the given item. */
+  public TableCell cell(int ordinal, int itemId) {
+    TableCell cell = cells[ordinal][itemId];
+    if (cell == null) {
+      throw new IllegalArgumentException(
+          "item " + item(itemId) + " is not prepared for column " + columns.get(ordinal));
+    }
+    return cell;
+  }
+
+  /** Creates a row from the item ids of each column, the array is not copied. */
+  public TableRow row(int[] itemIds) {
+    return new TableRow(this, itemIds);
+  }
+}
@@ -24,32 +24,41 @@ import static java.lang.Math.max;
 import static java.lang.String.format;
 
 import java.lang.reflect.MalformedParametersException;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
+/** A version of dot separated numbers, missing trailing parts compare like 0. */
 @EqualsAndHashCode(callSuper = false)
 public class Version implements Comparable<Version> {
 
-  private final LinkedList<Integer> versionParts;
+  private final int[] versionParts;
+
+  public Version(List<Integer> versionParts) {
+    this(versionParts.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  private Version(int[] versionParts) {
+    this.versionParts = versionParts;
+  }
 
   @NonNull
   public static Version getSemanticVersion(String versionString)
       throws MalformedParametersException {
-    LinkedList<Integer> versionParts = new LinkedList<>();
+    String[] versionPartStrings = versionString.trim().split("\\.");
+    int[] versionParts = new int[versionPartStrings.length];
     try {
-      for (String versionPartString : versionString.trim().split("\\.")) {
-        versionParts.add(Integer.parseInt(versionPartString));
+      for (int i = 0; i < versionPartStrings.length; i++) {
+        versionParts[i] = Integer.parseInt(versionPartStrings[i]);
       }
     } catch (NumberFormatException ignored) {
       throw new MalformedParametersException(
           format(
               "Version may only contain numbers and dots(.), does not match: %s", versionString));
     }
-    if (versionParts.isEmpty()) {
+    if (versionParts.length == 0) {
       throw new MalformedParametersException("Version may not be empty");
     }
     return new Version(versionParts);
@@ -57,14 +66,12 @@ public class Version implements Comparable<Version> {
 
   @Override
   public int compareTo(Version o) {
-    for (int i = 0; i < max(versionParts.size(), o.versionParts.size()); i++) {
-      int thisPart = (i < versionParts.size()) ? versionParts.get(i) : 0;
-      int otherPart = (i < o.versionParts.size()) ? o.versionParts.get(i) : 0;
-      if (thisPart > otherPart) {
-        return 1;
-      }
-      if (thisPart < otherPart) {
-        return -1;
+    int length = max(versionParts.length, o.versionParts.length);
+    for (int i = 0; i < length; i++) {
+      int thisPart = i < versionParts.length ? versionParts[i] : 0;
+      int otherPart = i < o.versionParts.length ? o.versionParts[i] : 0;
+      if (thisPart != otherPart) {
+        return thisPart > otherPart ? 1 : -1;
       }
     }
     return 0;
@@ -72,6 +79,6 @@ public class Version implements Comparable<Version> {
 
   @Override
   public String toString() {
-    return versionParts.stream().map(Object::toString).collect(Collectors.joining("."));
+    return Arrays.stream(versionParts).mapToObj(Integer::toString).collect(Collectors.joining("."));
   }
 }
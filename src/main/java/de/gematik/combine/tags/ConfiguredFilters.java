@@ -24,9 +24,14 @@ import static java.util.Collections.unmodifiableList;
 
 import de.gematik.combine.FilterConfiguration;
 import de.gematik.combine.filter.Filters;
+import de.gematik.combine.filter.table.MaxRowsFilter;
+import de.gematik.combine.filter.table.ShuffleTableFilter;
+import de.gematik.combine.filter.table.StreamableTableFilter;
 import de.gematik.combine.filter.table.TableFilter;
+import de.gematik.combine.model.TableCell;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
@@ -39,10 +44,69 @@ public class ConfiguredFilters {
 
   @Delegate private final Filters filters;
 
-  public TableFilter combineAllFilters() {
-    return Stream.concat(getTableFilters().stream(), getTableRowFilters().stream())
+  /**
+   * Returns the filters that operate on the whole table in the order they are applied. {@link
+   * de.gematik.combine.filter.table.row.RowFilter RowFilter}s are not part of the result because
+   * they are applied while generating the table.
+   */
+  public List<TableFilter> getSortedTableFilters() {
+    return getTableFilters().stream().sorted().toList();
+  }
+
+  /**
+   * Returns the maximum number of rows of the table if it is known before generation and all other
+   * table filters are {@link StreamableTableFilter}s or {@link ShuffleTableFilter}s. If the table
+   * is not {@link #isShuffled() shuffled}, the table generation can stop as soon as this number of
+   * rows passed {@link #newStreamingRowFilter()}, otherwise this number of rows can be sampled if
+   * there are no {@link #hasOrderDependentFilters() order dependent filters}.
+   */
+  public OptionalInt getStreamableRowLimit() {
+    OptionalInt rowLimit = OptionalInt.empty();
+    for (TableFilter tableFilter : getTableFilters()) {
+      if (tableFilter instanceof MaxRowsFilter maxRowsFilter) {
+        OptionalInt maxRows = maxRowsFilter.getConstantMaxRows();
+        if (maxRows.isEmpty()) {
+          return OptionalInt.empty();
+        }
+        rowLimit =
+            OptionalInt.of(Math.min(maxRows.getAsInt(), rowLimit.orElse(Integer.MAX_VALUE)));
+      } else if (!(tableFilter instanceof StreamableTableFilter)
+          && !(tableFilter instanceof ShuffleTableFilter)) {
+        return OptionalInt.empty();
+      }
+    }
+    return rowLimit;
+  }
+
+  /** Returns true if the rows of the table are shuffled by a {@link ShuffleTableFilter}. */
+  public boolean isShuffled() {
+    return getTableFilters().stream()
+        .anyMatch(filter -> filter instanceof ShuffleTableFilter shuffle && shuffle.isShuffle());
+  }
+
+  /**
+   * Returns true if there are {@link StreamableTableFilter#isOrderDependent() order dependent}
+   * {@link StreamableTableFilter}s. Which rows they keep depends on the order of the rows, so they
+   * have to see all rows of a shuffled table in shuffled order.
+   */
+  public boolean hasOrderDependentFilters() {
+    return getTableFilters().stream()
+        .anyMatch(
+            filter ->
+                filter instanceof StreamableTableFilter streamable
+                    && streamable.isOrderDependent());
+  }
+
+  /**
+   * Combines the {@link StreamableTableFilter}s in filter order to a predicate for the rows of one
+   * table, see {@link #getStreamableRowLimit()}.
+   */
+  public Predicate<List<TableCell>> newStreamingRowFilter() {
+    return getTableFilters().stream()
         .sorted()
-        .reduce(x -> x, TableFilter::merge);
+        .filter(StreamableTableFilter.class::isInstance)
+        .map(filter -> ((StreamableTableFilter) filter).newRowPredicate())
+        .reduce(row -> true, Predicate::and);
   }
 
   public List<String> getColumns() {
@@ -20,7 +20,6 @@
 
 package de.gematik.combine.tags;
 
-import static de.gematik.combine.CombineMojo.getPluginLog;
 import static java.util.regex.Pattern.compile;
 
 import java.util.List;
@@ -33,6 +32,7 @@ import java.util.stream.Collectors;
 
 import lombok.Getter;
 import lombok.SneakyThrows;
+import org.apache.maven.plugin.logging.Log;
 import org.reflections.Reflections;
 
 import javax.inject.Named;
@@ -61,32 +61,32 @@ public class TagParser {
     return parser.getClass().getAnnotation(Named.class).value();
   }
 
-  public ParsedTags parseTags(List<String> tags, List<String> columns) {
+  public ParsedTags parseTags(List<String> tags, List<String> columns, Log log) {
     ParsedTags tagCollector = new ParsedTags(columns);
 
     tags.stream()
-        .map(this::preParseTag)
+        .map(tag -> preParseTag(tag, log))
         .flatMap(Optional::stream)
-        .forEach(tag -> parseTag(tag, tagCollector));
+        .forEach(tag -> parseTag(tag, tagCollector, log));
 
     return tagCollector;
   }
 
-  private void parseTag(PreParsedTag preParsedTag, ParsedTags tagCollector) {
+  private void parseTag(PreParsedTag preParsedTag, ParsedTags tagCollector, Log log) {
     SingleTagParser tagParser = tagParsers.get(preParsedTag.getTagName());
     if (tagParser == null) {
-      getPluginLog().warn("ignoring unknown tag: " + preParsedTag);
+      log.warn("ignoring unknown tag: " + preParsedTag);
       return;
     }
     tagParser.parseTagAndRegister(preParsedTag, tagCollector);
   }
 
-  private Optional<PreParsedTag> preParseTag(String tag) {
+  private Optional<PreParsedTag> preParseTag(String tag, Log log) {
     final Matcher matcher = tagPattern.matcher(tag);
     final boolean matches = matcher.matches();
 
     if (!matches) {
-      getPluginLog().warn(tag + " does not match format for tags");
+      log.warn(tag + " does not match format for tags");
       return Optional.empty();
     }
     final String shortName = matcher.group(1);
@@ -20,15 +20,20 @@
 
 package de.gematik.combine.tags.parser;
 
+import static de.gematik.combine.filter.jexl.JexlFilter.splitConjuncts;
 import static de.gematik.combine.tags.parser.FilterTagParser.JEXL_ROW_FILTER_TAG;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.joining;
 
+import de.gematik.combine.filter.jexl.JexlFilter;
 import de.gematik.combine.filter.table.cell.JexlCellFilter;
 import de.gematik.combine.filter.table.row.JexlRowFilter;
 import de.gematik.combine.tags.ParsedTags;
 import de.gematik.combine.tags.SingleTagParser;
 import de.gematik.combine.tags.TagParser.PreParsedTag;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
@@ -39,23 +44,68 @@ public class FilterTagParser implements SingleTagParser {
 
   public static final String JEXL_ROW_FILTER_TAG = "Filter";
 
+  /**
+   * Registers the expression as cell filter if it references a single column. Otherwise, the
+   * conjuncts of the expression referencing a single column are registered as cell filters of that
+   * column, so they are applied before the rows are combined, and only the remaining conjuncts form
+   * a row filter. Rows reaching the row filter passed the cell filters, so conjuncts guarding later
+   * ones keep working.
+   */
   @Override
   public void parseTagAndRegister(PreParsedTag preParsedTag, ParsedTags parsedTags) {
-    List<String> columnReferences =
-        countColumnReferences(preParsedTag.getValue(), parsedTags.getColumns());
-    if (columnReferences.size() == 1) {
-      String column = columnReferences.get(0);
-      JexlCellFilter filter = new JexlCellFilter(column, preParsedTag.getValue());
-      filter.setSoft(preParsedTag.isSoft());
-      parsedTags.addCellFilter(column, filter);
+    String expression = preParsedTag.getValue();
+    Map<String, List<String>> cellConjuncts = new LinkedHashMap<>();
+    List<String> rowConjuncts = new ArrayList<>();
+    for (String conjunct : splitConjuncts(expression)) {
+      String column = singleReferencedColumn(conjunct, parsedTags.getColumns());
+      if (column == null) {
+        rowConjuncts.add(conjunct);
+      } else {
+        cellConjuncts.computeIfAbsent(column, c -> new ArrayList<>()).add(conjunct);
+      }
+    }
+    if (cellConjuncts.isEmpty()) {
+      registerRowFilter(expression, preParsedTag, parsedTags);
+    } else if (rowConjuncts.isEmpty() && cellConjuncts.size() == 1) {
+      String column = cellConjuncts.keySet().iterator().next();
+      registerCellFilter(column, expression, preParsedTag, parsedTags);
     } else {
-      JexlRowFilter filter = new JexlRowFilter(preParsedTag.getValue());
-      filter.setSoft(preParsedTag.isSoft());
-      parsedTags.addTableRowFilter(filter);
+      cellConjuncts.forEach(
+          (column, conjuncts) ->
+              registerCellFilter(column, join(conjuncts), preParsedTag, parsedTags));
+      if (!rowConjuncts.isEmpty()) {
+        registerRowFilter(join(rowConjuncts), preParsedTag, parsedTags);
+      }
     }
   }
 
-  private List<String> countColumnReferences(String expression, List<String> columns) {
-    return columns.stream().filter(expression::contains).collect(toList());
+  private String singleReferencedColumn(String expression, List<String> columns) {
+    JexlFilter filter = new JexlFilter(expression);
+    List<String> columnReferences = filter.getReferencedColumns(columns);
+    if (columnReferences.size() == 1 && !filter.usesContextVariables()) {
+      return columnReferences.get(0);
+    }
+    return null;
+  }
+
+  private static String join(List<String> conjuncts) {
+    if (conjuncts.size() == 1) {
+      return conjuncts.get(0);
+    }
+    return conjuncts.stream().map(conjunct -> "(" + conjunct + ")").collect(joining(" && "));
+  }
+
+  private void registerCellFilter(
+      String column, String expression, PreParsedTag preParsedTag, ParsedTags parsedTags) {
+    JexlCellFilter filter = new JexlCellFilter(column, expression);
+    filter.setSoft(preParsedTag.isSoft());
+    parsedTags.addCellFilter(column, filter);
+  }
+
+  private void registerRowFilter(
+      String expression, PreParsedTag preParsedTag, ParsedTags parsedTags) {
+    JexlRowFilter filter = new JexlRowFilter(expression);
+    filter.setSoft(preParsedTag.isSoft());
+    parsedTags.addTableRowFilter(filter);
   }
 }
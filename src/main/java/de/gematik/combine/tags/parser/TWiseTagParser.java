@@ -0,0 +1,52 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.tags.parser;
+
+import static java.lang.String.format;
+import static org.apache.commons.lang3.math.NumberUtils.toInt;
+
+import de.gematik.combine.tags.ParsedTags;
+import de.gematik.combine.tags.SingleTagParser;
+import de.gematik.combine.tags.TagParser.PreParsedTag;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+@Named(TWiseTagParser.T_WISE_TAG)
+@Singleton
+@SuppressWarnings("unused")
+public class TWiseTagParser implements SingleTagParser {
+
+  public static final String T_WISE_TAG = "TWise";
+
+  /** Accepts strengths from 2 (pairwise) up to the number of columns (full table) */
+  @Override
+  public void parseTagAndRegister(PreParsedTag preParsedTag, ParsedTags parsedTags) {
+    int columns = parsedTags.getColumns().size();
+    int tWise = toInt(preParsedTag.getValue());
+    if (tWise < 2 || tWise > columns) {
+      throw new IllegalArgumentException(
+          format(
+              "'%s' is not a valid strength for %s, expected 2 to %d",
+              preParsedTag.getValue(), T_WISE_TAG, columns));
+    }
+    parsedTags.addConfigModifier(config -> config.toBuilder().tWise(tWise).build());
+  }
+}
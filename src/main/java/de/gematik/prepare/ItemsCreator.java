@@ -20,7 +20,7 @@
 
 package de.gematik.prepare;
 
-import static de.gematik.prepare.PrepareItemsMojo.getPluginLog;
+import static de.gematik.utils.jexl.JexlExpressionCache.sharedCache;
 import static java.util.Objects.nonNull;
 
 import de.gematik.combine.model.CombineItem;
@@ -31,11 +31,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import lombok.Getter;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.MapContext;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 
 public class ItemsCreator {
 
@@ -45,12 +45,17 @@ public class ItemsCreator {
 
   @Getter private final List<String> contextErrors = new ArrayList<>();
 
-  private final JexlEngine jexlEngine;
+  private final boolean strict;
+  private final Log log;
 
   public ItemsCreator(PrepareItemsConfig config) {
+    this(config, new SystemStreamLog());
+  }
+
+  public ItemsCreator(PrepareItemsConfig config, Log log) {
     this.config = config;
-    jexlEngine =
-        new JexlBuilder().strict(!config.isAcceptUnknownInfo()).silent(false).safe(false).create();
+    this.log = log;
+    this.strict = !config.isAcceptUnknownInfo();
   }
 
   public Void evaluateExpressions(CombineItem item, Map<?, ?> jsonContext) {
@@ -62,17 +67,17 @@ public class ItemsCreator {
   }
 
   private void checkTagExpression(CombineItem item, TagExpression tagExpression) {
-    getPluginLog()
-        .debug(
-            "Evaluating tag expression -> "
-                + tagExpression.getExpression()
-                + " - "
-                + tagExpression.getTag());
+    log.debug(
+        "Evaluating tag expression -> "
+            + tagExpression.getExpression()
+            + " - "
+            + tagExpression.getTag());
     var newTags = new HashSet<>(item.getTags());
 
     try {
       Boolean result =
-          (Boolean) jexlEngine.createExpression(tagExpression.getExpression()).evaluate(context);
+          (Boolean)
+              sharedCache().expression(tagExpression.getExpression(), strict).evaluate(context);
       if (result != null && result) {
         newTags.add(tagExpression.getTag());
       } else {
@@ -89,7 +94,7 @@ public class ItemsCreator {
         }
       }
     } catch (JexlException ex) {
-      getPluginLog().warn(ex.getMessage(), ex);
+      log.warn(ex.getMessage(), ex);
       throw ex;
     }
     item.setTags(newTags);
@@ -111,14 +116,16 @@ public class ItemsCreator {
       PropertyExpression propertyExpression,
       Map<String, String> existingProperties,
       CombineItem item) {
-    getPluginLog().debug("evaluating " + propertyExpression.getExpression());
+    log.debug("evaluating " + propertyExpression.getExpression());
     String value;
     try {
       value =
           (String)
-              jexlEngine.createExpression(propertyExpression.getExpression()).evaluate(context);
+              sharedCache()
+                  .expression(propertyExpression.getExpression(), strict)
+                  .evaluate(context);
     } catch (JexlException ex) {
-      getPluginLog().warn(ex.getMessage());
+      log.warn(ex.getMessage());
       return null;
     }
     if (value == null) {
@@ -150,7 +157,7 @@ public class ItemsCreator {
       }
     }
     Entry<String, String> keyValue = Map.entry(propertyExpression.getProperty(), value);
-    getPluginLog().debug("proceeded property -> " + keyValue);
+    log.debug("proceeded property -> " + keyValue);
     return keyValue;
   }
 }
@@ -22,6 +22,7 @@ package de.gematik.prepare;
 
 import static de.gematik.utils.Utils.getItemAsString;
 import static de.gematik.utils.Utils.writeErrors;
+import static de.gematik.utils.jexl.JexlExpressionCache.sharedCache;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -53,14 +54,16 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
-import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.json.JSONObject;
 
 /** Plugin for filling empty gherkin tables with generated combinations */
-@Mojo(name = "prepare-items", defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES)
+@Mojo(
+    name = "prepare-items",
+    defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES,
+    threadSafe = true)
 @Setter
 @RequiredArgsConstructor(onConstructor_ = @Inject)
 public class PrepareItemsMojo extends BaseMojo {
@@ -73,7 +76,6 @@ public class PrepareItemsMojo extends BaseMojo {
           + "\n          === This is because of the following config errors: ===";
   public static final String USED_GROUPS_PATH =
       GENERATED_COMBINE_ITEMS_DIR + File.separator + "usedGroups.json";
-  @Getter @Setter private static PrepareItemsMojo instance;
   private final ApiRequester apiRequester;
 
   /** Location to info */
@@ -134,17 +136,12 @@ public class PrepareItemsMojo extends BaseMojo {
   private Pooler pooler;
   private PrepareItemsConfig config;
 
-  public static Log getPluginLog() {
-    return instance.getLog();
-  }
-
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
     if (this.isSkip() || skipPrep) {
       getLog().warn("Preparation of items file got skipped due configuration");
       return;
     }
-    setInstance(this);
     checkExpressionSetCorrectly();
     getLog().info("Going to preprocess " + getCombineItemsFile());
     if (StringUtils.isNotBlank(poolGroupString)) {
@@ -153,10 +150,11 @@ public class PrepareItemsMojo extends BaseMojo {
     }
     setDefaultForEmptyStrategyInPoolGroups();
     config = getCreateItemsConfig();
-    itemsCreator = new ItemsCreator(config);
-    pooler = new Pooler(config);
+    itemsCreator = new ItemsCreator(config, getLog());
+    pooler = new Pooler(config, getLog());
     items = pooler.pool();
     writeUsedGroupsToFile(items);
+    apiRequester.setLog(getLog());
     apiRequester.setupProxy(getProxyHost(), getProxyPort());
     apiRequester.setupTls(
         getTruststore(), getTruststorePw(), getClientCertStore(), getClientCertStorePw());
@@ -207,12 +205,21 @@ public class PrepareItemsMojo extends BaseMojo {
         items.stream().map(this::processItem).filter(Objects::nonNull).collect(Collectors.toList());
     boolean requestsOk = apiErrors.isEmpty() || !isBreakOnFailedRequest();
     boolean contextOk = itemsCreator.getContextErrors().isEmpty() || !isBreakOnContextError();
-    writeErrors(getClass().getSimpleName(), apiErrors, FAILED_REQ_WARN_MESSAGE, false);
     writeErrors(
+        getBaseDir(),
+        getLog(),
+        getClass().getSimpleName(),
+        apiErrors,
+        FAILED_REQ_WARN_MESSAGE,
+        false);
+    writeErrors(
+        getBaseDir(),
+        getLog(),
         getClass().getSimpleName(),
         itemsCreator.getContextErrors(),
         CONFIG_FAIL_WARN_MESSAGE,
         apiErrors.isEmpty());
+    getLog().debug(sharedCache().getStatistics());
     if (requestsOk && contextOk) {
       getLog()
           .info(
@@ -26,7 +26,6 @@ import static java.lang.String.format;
 
 import de.gematik.combine.model.CombineItem;
 import de.gematik.prepare.PrepareItemsConfig;
-import de.gematik.prepare.PrepareItemsMojo;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -39,6 +38,8 @@ import java.util.stream.IntStream;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 
 @NoArgsConstructor
 public class Pooler {
@@ -47,15 +48,16 @@ public class Pooler {
   private final Random random = new Random();
 
   @Setter private PrepareItemsConfig config;
+  @Setter private Log log = new SystemStreamLog();
 
-  public Pooler(PrepareItemsConfig config) {
+  public Pooler(PrepareItemsConfig config, Log log) {
     this.config = config;
+    this.log = log;
   }
 
   public List<CombineItem> pool() throws MojoExecutionException {
     List<CombineItem> allCombineItems =
-        getItemsToCombine(
-            new File(config.getCombineItemsFile()), PrepareItemsMojo.getInstance(), false);
+        getItemsToCombine(new File(config.getCombineItemsFile()), log, false);
     allCombineItems.removeAll(
         allCombineItems.stream()
             .filter(
@@ -26,10 +26,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PRIVATE;
 
-import de.gematik.check.CheckMojo;
-import de.gematik.combine.CombineMojo;
 import de.gematik.combine.model.CombineItem;
-import de.gematik.prepare.PrepareItemsMojo;
 import io.cucumber.core.internal.com.fasterxml.jackson.core.JsonParseException;
 import io.cucumber.core.internal.com.fasterxml.jackson.databind.JsonMappingException;
 import io.cucumber.core.internal.com.fasterxml.jackson.databind.ObjectMapper;
@@ -47,39 +44,51 @@ import org.apache.commons.io.FileUtils;
 import org.apache.maven.plugin.Mojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
-import org.apache.maven.plugin.logging.SystemStreamLog;
 
 @NoArgsConstructor(access = PRIVATE)
 public class Utils {
 
-  private static final SystemStreamLog nullLogger = new SystemStreamLog();
+  /**
+   * Returns the file the items are read from: the one created by the prepare goal if it exists and
+   * should be used, the given file otherwise
+   */
+  public static File getEffectiveItemsFile(File file, boolean useCreated) {
+    File generatedFile = new File(GENERATED_COMBINE_ITEMS_DIR + File.separator + file.getName());
+    return useCreated && generatedFile.exists() ? generatedFile : file;
+  }
 
   /**
    * read the combine_items.json file into the combineItems list
    *
    * @return list of items to combine
    */
-  @SneakyThrows
   public static List<CombineItem> getItemsToCombine(File file, Mojo mojo, boolean useCreated) {
+    return getItemsToCombine(file, mojo.getLog(), useCreated);
+  }
+
+  /**
+   * read the combine_items.json file into the combineItems list
+   *
+   * @return list of items to combine
+   */
+  @SneakyThrows
+  public static List<CombineItem> getItemsToCombine(File file, Log log, boolean useCreated) {
     final BufferedReader br;
     final ObjectMapper mapper = new ObjectMapper();
     final List<CombineItem> combineItems;
-    File generatedFile = new File(GENERATED_COMBINE_ITEMS_DIR + File.separator + file.getName());
-    if (useCreated && generatedFile.exists()) {
-      file = generatedFile;
-    }
-    mojo.getLog().info(format("Fetching all items from input file '%s'", file.getAbsolutePath()));
+    file = getEffectiveItemsFile(file, useCreated);
+    log.info(format("Fetching all items from input file '%s'", file.getAbsolutePath()));
     try {
       br = new BufferedReader(new FileReader(file));
     } catch (FileNotFoundException e) {
-      mojo.getLog().error(e.getMessage());
+      log.error(e.getMessage());
       throw new MojoExecutionException(
           format("Can not find combine items file: '%s'", file.getAbsolutePath()), e);
     }
     try {
       combineItems = Arrays.asList(mapper.readValue(br, CombineItem[].class));
     } catch (JsonMappingException | JsonParseException e) {
-      mojo.getLog().error(e.getMessage());
+      log.error(e.getMessage());
       throw new MojoExecutionException(
           format(
               "JSON could not be properly processed -> %s: %s",
@@ -88,40 +97,37 @@ public class Utils {
     return new ArrayList<>(combineItems);
   }
 
-  public static Log getLog() {
-    if (nonNull(CombineMojo.getInstance())) {
-      return CombineMojo.getPluginLog();
-    }
-    if (nonNull(PrepareItemsMojo.getInstance())) {
-      return PrepareItemsMojo.getPluginLog();
-    }
-    if (nonNull(CheckMojo.getInstance())) {
-      return CheckMojo.getPluginLog();
-    } else {
-      return nullLogger;
-    }
-  }
-
-  public static void writeErrors(String msgPreamble, List<String> errors) {
-    writeErrors(msgPreamble, errors, null, true);
+  public static void writeErrors(
+      File baseDir, Log log, String msgPreamble, List<String> errors) {
+    writeErrors(baseDir, log, msgPreamble, errors, null, true);
   }
 
   @SneakyThrows
-  public static void writeErrors(String msgPreamble, List<String> errors, String message) {
-    writeErrors(msgPreamble, errors, message, true);
+  public static void writeErrors(
+      File baseDir, Log log, String msgPreamble, List<String> errors, String message) {
+    writeErrors(baseDir, log, msgPreamble, errors, message, true);
   }
 
+  /**
+   * Logs the errors and writes them to the error log in the generated directory of the project with
+   * the given base directory. Without base directory the working directory is used.
+   */
   @SneakyThrows
   public static void writeErrors(
-      String msgPreamble, List<String> errors, String message, boolean shouldAppend) {
+      File baseDir,
+      Log log,
+      String msgPreamble,
+      List<String> errors,
+      String message,
+      boolean shouldAppend) {
     if (errors.isEmpty()) {
       return;
     }
     if (nonNull(message)) {
-      getLog().warn(message);
+      log.warn(message);
     }
-    errors.forEach(e -> getLog().warn(msgPreamble + e));
-    File file = new File(GENERATED_COMBINE_ITEMS_DIR + File.separator + "errorLog.txt");
+    errors.forEach(e -> log.warn(msgPreamble + e));
+    File file = new File(baseDir, GENERATED_COMBINE_ITEMS_DIR + File.separator + "errorLog.txt");
     String errorString = StringUtills.join(errors, "\n") + "\n";
     FileUtils.write(file, errorString, UTF_8, shouldAppend);
   }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.utils.jexl;
+
+import static java.lang.String.format;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Value;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+
+/**
+ * Compiles the JEXL expressions of all goals and keeps the most recently used ones, so an
+ * expression evaluated for many items or tables is parsed only once. Compiled expressions do not
+ * hold any state of an evaluation and are shared between threads and executions.
+ *
+ * <p>Expressions are cached per engine configuration and source text. Expressions that fail to
+ * compile are not cached, so the error is thrown on each use.
+ */
+public class JexlExpressionCache {
+
+  public static final int MAX_CACHED_EXPRESSIONS = 1024;
+
+  private static final JexlEngine STRICT_ENGINE = createEngine(true);
+  private static final JexlEngine LENIENT_ENGINE = createEngine(false);
+  private static final JexlExpressionCache SHARED = new JexlExpressionCache(MAX_CACHED_EXPRESSIONS);
+
+  private final Map<Key, Object> compiled;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  JexlExpressionCache(int maxSize) {
+    this.compiled =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Entry<Key, Object> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /** Returns the cache used by all goals of the plugin */
+  public static JexlExpressionCache sharedCache() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the engine for the configuration.
+   *
+   * @param strict false if unknown variables and properties evaluate to null instead of failing
+   */
+  public static JexlEngine engine(boolean strict) {
+    return strict ? STRICT_ENGINE : LENIENT_ENGINE;
+  }
+
+  private static JexlEngine createEngine(boolean strict) {
+    return new JexlBuilder().strict(strict).silent(false).safe(false).create();
+  }
+
+  public JexlExpression expression(String source, boolean strict) {
+    return compile(new Key(strict, false, source), engine(strict)::createExpression);
+  }
+
+  /** Returns the expression compiled as script, e.g. to inspect its variables */
+  public JexlScript script(String source, boolean strict) {
+    return compile(new Key(strict, true, source), engine(strict)::createScript);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T compile(Key key, Function<String, T> compiler) {
+    Object cached;
+    synchronized (compiled) {
+      cached = compiled.get(key);
+    }
+    if (cached != null) {
+      hits.incrementAndGet();
+      return (T) cached;
+    }
+    misses.incrementAndGet();
+    T result = compiler.apply(key.getSource());
+    synchronized (compiled) {
+      compiled.putIfAbsent(key, result);
+    }
+    return result;
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public String getStatistics() {
+    return format("JEXL expression cache: %d hits, %d misses", getHits(), getMisses());
+  }
+
+  @Value
+  private static class Key {
+    boolean strict;
+    boolean script;
+    String source;
+  }
+}
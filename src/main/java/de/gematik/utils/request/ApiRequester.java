@@ -20,7 +20,6 @@
 
 package de.gematik.utils.request;
 
-import static de.gematik.utils.Utils.getLog;
 import static de.gematik.utils.request.SSLContextFactory.getX509TrustManager;
 import static okhttp3.ConnectionSpec.MODERN_TLS;
 
@@ -43,6 +42,8 @@ import okhttp3.Request;
 import okhttp3.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 
 public class ApiRequester {
 
@@ -53,6 +54,7 @@ public class ApiRequester {
   private String proxyHost;
   private Integer proxyPort;
   @Setter private OkHttpClient client;
+  @Setter private Log log = new SystemStreamLog();
   private List<StatusCodes> allowedFam;
   private List<Integer> allowedCodes;
 
@@ -108,9 +110,9 @@ public class ApiRequester {
               sslContext.getSocketFactory(),
               getX509TrustManager(trustStorePath, trustStorePassword))
           .build();
-      getLog().info("Using mTLS");
+      log.info("Using mTLS");
     } else if (sslParameters().allMatch(Objects::isNull)) {
-      getLog().warn("Using no TLS");
+      log.warn("Using no TLS");
     } else {
       Map<String, String> variableMap = new HashMap<>();
       variableMap.put("clientCertPath", clientCertPath);
@@ -119,9 +121,9 @@ public class ApiRequester {
       variableMap.put("trustStorePassword", trustStorePassword);
       for (Map.Entry<String, String> entry : variableMap.entrySet()) {
         if(entry.getValue() == null || entry.getValue().isEmpty()){
-          getLog().warn(entry.getKey() + " is missing.");
+          log.warn(entry.getKey() + " is missing.");
         }else{
-          getLog().info(entry.getKey() + " is set.");
+          log.info(entry.getKey() + " is set.");
         }
       }
       throw new MojoExecutionException(
@@ -132,9 +134,9 @@ public class ApiRequester {
   private void checkAndConfigureProxy(Builder builder) throws MojoExecutionException {
     if (proxyParameters().noneMatch(Objects::isNull)) {
       builder.proxy(new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyHost, proxyPort)));
-      getLog().info("Using proxy: " + proxyHost + ":" + proxyPort);
+      log.info("Using proxy: " + proxyHost + ":" + proxyPort);
     } else if (proxyParameters().allMatch(Objects::isNull)) {
-      getLog().warn("Using no proxy");
+      log.warn("Using no proxy");
     } else {
       throw new MojoExecutionException("You tried to set a proxy but one parameter is missing");
     }
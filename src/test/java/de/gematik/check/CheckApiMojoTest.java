@@ -40,6 +40,7 @@ import java.io.File;
 import java.util.List;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
+import org.apache.maven.plugin.Mojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -93,7 +94,9 @@ class CheckApiMojoTest {
   }
 
   static void makeMockReturnItems(MockedStatic<Utils> mocked, List<CombineItem> value) {
-    mocked.when(() -> Utils.getItemsToCombine(any(), any(), anyBoolean())).thenReturn(value);
+    mocked
+        .when(() -> Utils.getItemsToCombine(any(), any(Mojo.class), anyBoolean()))
+        .thenReturn(value);
   }
 
   static Stream<Arguments> runSuccessfully() {
@@ -0,0 +1,60 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import org.junit.jupiter.api.Test;
+
+class CombineConfigurationTest {
+
+  @Test
+  void shouldResolveManifestFileAgainstBaseDir() {
+    // arrange
+    CombineConfiguration first =
+        CombineConfiguration.builder().baseDir(new File("project1")).build();
+    CombineConfiguration second =
+        CombineConfiguration.builder().baseDir(new File("project2")).build();
+    // act
+    File firstManifest = first.resolveManifestFile();
+    File secondManifest = second.resolveManifestFile();
+    // assert
+    assertThat(firstManifest).isEqualTo(new File("project1", first.getManifestFile()));
+    assertThat(secondManifest).isEqualTo(new File("project2", second.getManifestFile()));
+  }
+
+  @Test
+  void shouldKeepAbsoluteManifestFile() {
+    // arrange
+    File manifest = new File("manifest.properties").getAbsoluteFile();
+    CombineConfiguration config =
+        CombineConfiguration.builder()
+            .baseDir(new File("project1"))
+            .manifestFile(manifest.getPath())
+            .build();
+    // act
+    File resolved = config.resolveManifestFile();
+    // assert
+    assertThat(resolved).isEqualTo(manifest);
+  }
+}
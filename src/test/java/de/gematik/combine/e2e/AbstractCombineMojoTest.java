@@ -69,7 +69,6 @@ abstract class AbstractCombineMojoTest {
     combineMojo.setCountExecutions(countExecutions());
 
     when(combineMojo.getLog()).thenReturn(log);
-    CombineMojo.resetError();
   }
 
   @SneakyThrows
@@ -25,7 +25,6 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.quality.Strictness.LENIENT;
 
-import de.gematik.combine.CombineMojo;
 import de.gematik.combine.FilterConfiguration;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.BeforeEach;
@@ -95,8 +94,8 @@ class CombineMojoTest extends AbstractCombineMojoTest {
     // act
     combineMojo.execute();
     // assert
-    assertThat(CombineMojo.getWarningsLog()).hasSize(1);
-    assertThat(CombineMojo.getWarningsLog().get(0)).contains("Could not parse invalid gherkin", "invalidGherkin", "10:0", "unexpected end of file");
+    assertThat(combineMojo.getWarningsLog()).hasSize(1);
+    assertThat(combineMojo.getWarningsLog().get(0)).contains("Could not parse invalid gherkin", "invalidGherkin", "10:0", "unexpected end of file");
   }
 
   @Test
@@ -106,8 +105,8 @@ class CombineMojoTest extends AbstractCombineMojoTest {
     // act
     combineMojo.execute();
     // assert
-    assertThat(CombineMojo.getWarningsLog()).hasSize(1);
-    assertThat(CombineMojo.getWarningsLog().get(0)).contains("Could not parse invalid gherkin", "invalidGherkin", "2:1", "expected: #TagLine, #FeatureLine, #Comment, #Empty", "Beschreibung");
+    assertThat(combineMojo.getWarningsLog()).hasSize(1);
+    assertThat(combineMojo.getWarningsLog().get(0)).contains("Could not parse invalid gherkin", "invalidGherkin", "2:1", "expected: #TagLine, #FeatureLine, #Comment, #Empty", "Beschreibung");
   }
 
   @Override
@@ -51,7 +51,9 @@ public class DefaultTagsTest extends AbstractCombineMojoTest {
     return Stream.of(
         arguments("@AllowDoubleLineup"),
         arguments("@AllowSelfCombine"),
-        arguments("@MinimalTable"));
+        arguments("@MinimalTable"),
+        arguments("@Pairwise"),
+        arguments("@TWise(3)"));
   }
 
   @BeforeEach
@@ -107,7 +109,7 @@ public class DefaultTagsTest extends AbstractCombineMojoTest {
         .hasMessageContaining(
             "Default tag '"
                 + configTag
-                + "' is not allowed to contain configuration tags! [AllowDoubleLineup, AllowSelfCombine, MinimalTable]");
+                + "' is not allowed to contain configuration tags! [AllowDoubleLineup, AllowSelfCombine, MinimalTable, Pairwise, TWise]");
   }
 
   @Override
@@ -25,7 +25,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.quality.Strictness.LENIENT;
 
-import de.gematik.combine.CombineMojo;
 import java.io.File;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
@@ -55,7 +54,7 @@ class ErrorLogTest extends AbstractCombineMojoTest {
   @SneakyThrows
   void errorLogShouldBeFilled() {
     combineMojo.execute();
-    assertThat(CombineMojo.getTableSizeErrorLog()).hasSize(2);
+    assertThat(combineMojo.getTableSizeErrorLog()).hasSize(2);
   }
 
   @Test
@@ -81,7 +80,7 @@ class ErrorLogTest extends AbstractCombineMojoTest {
   void shouldConsiderMinimalTableSizeSetToOne() {
     combineMojo.setMinTableSize(1);
     combineMojo.execute();
-    assertThat(CombineMojo.getTableSizeErrorLog()).hasSize(1);
+    assertThat(combineMojo.getTableSizeErrorLog()).hasSize(1);
   }
 
   @Test
@@ -89,7 +88,7 @@ class ErrorLogTest extends AbstractCombineMojoTest {
   void shouldConsiderMinimalTableSizeSetToZero() {
     combineMojo.setMinTableSize(0);
     combineMojo.execute();
-    assertThat(CombineMojo.getTableSizeErrorLog()).isEmpty();
+    assertThat(combineMojo.getTableSizeErrorLog()).isEmpty();
   }
 
   @Override
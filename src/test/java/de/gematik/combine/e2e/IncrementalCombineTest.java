@@ -0,0 +1,221 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.e2e;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.gematik.combine.CombineConfiguration;
+import de.gematik.combine.FilterConfiguration;
+import java.io.File;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalCombineTest extends AbstractCombineMojoTest {
+
+  private static final long OLD_TIMESTAMP = 1_000_000_000_000L;
+  private static final File MANIFEST =
+      CombineConfiguration.builder().build().resolveManifestFile();
+
+  private static final String TEMPLATE =
+      "Feature: test\n"
+          + "\n"
+          + "  Scenario Outline: combine\n"
+          + "    Given \"<HEADER_1>\" and \"<HEADER_2>\"\n"
+          + "\n"
+          + "    @Filter(%s)\n"
+          + "    Examples:\n"
+          + "      | HEADER_1 | HEADER_2 |\n";
+
+  @Override
+  protected String inputDir() {
+    return "./target/test/" + getClass().getSimpleName() + "Templates";
+  }
+
+  @BeforeEach
+  @SneakyThrows
+  void prepareTemplates() {
+    deleteDirectory(new File(inputDir()));
+    deleteDirectory(new File(outputDir()));
+    deleteQuietly(MANIFEST);
+    writeTemplate("first", "HEADER_1.hasTag(\"orgAdmin\")");
+    writeTemplate("second", "HEADER_2.hasTag(\"client\")");
+    combineMojo.setIncremental(true);
+  }
+
+  @AfterEach
+  void removeManifest() {
+    deleteQuietly(MANIFEST);
+  }
+
+  @Test
+  void shouldNotTouchUnchangedOutputs() {
+    // arrange
+    combineMojo.execute();
+    String first = readFile("first.feature");
+    outputFile("first").setLastModified(OLD_TIMESTAMP);
+    outputFile("second").setLastModified(OLD_TIMESTAMP);
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(MANIFEST).isFile();
+    assertThat(readFile("first.feature")).isEqualTo(first);
+    assertThat(outputFile("first").lastModified()).isEqualTo(OLD_TIMESTAMP);
+    assertThat(outputFile("second").lastModified()).isEqualTo(OLD_TIMESTAMP);
+  }
+
+  @Test
+  void shouldWriteManifestBelowBaseDir(@TempDir File baseDir) {
+    // arrange
+    combineMojo.setBaseDir(baseDir);
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(combineMojo.getConfiguration().resolveManifestFile())
+        .isFile()
+        .hasParent(new File(baseDir, "./target/generated-combine"));
+    assertThat(MANIFEST).doesNotExist();
+  }
+
+  @Test
+  void shouldRegenerateChangedTemplatesOnly() {
+    // arrange
+    combineMojo.execute();
+    String second = readFile("second.feature");
+    outputFile("first").setLastModified(OLD_TIMESTAMP);
+    writeTemplate("second", "HEADER_2.hasTag(\"orgAdmin\")");
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(outputFile("first").lastModified()).isEqualTo(OLD_TIMESTAMP);
+    assertThat(readFile("second.feature")).isNotEqualTo(second).contains("|Api2|Api1|");
+  }
+
+  @Test
+  void shouldRegenerateModifiedOutputs() {
+    // arrange
+    combineMojo.execute();
+    String first = readFile("first.feature");
+    writeFile(outputFile("first"), "modified");
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(readFile("first.feature")).isEqualTo(first);
+  }
+
+  @Test
+  void shouldRemoveOutputsOfDeletedTemplates() {
+    // arrange
+    combineMojo.execute();
+    deleteQuietly(new File(inputDir(), "second.feature.cute"));
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(outputFile("first")).isFile();
+    assertThat(outputFile("second")).doesNotExist();
+  }
+
+  @Test
+  void shouldRegenerateAllTemplatesIfConfigurationChanged() {
+    // arrange
+    combineMojo.execute();
+    outputFile("first").setLastModified(OLD_TIMESTAMP);
+    outputFile("second").setLastModified(OLD_TIMESTAMP);
+    combineMojo.setFilterConfiguration(
+        FilterConfiguration.builder().allowSelfCombine(true).build());
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(outputFile("first").lastModified()).isNotEqualTo(OLD_TIMESTAMP);
+    assertThat(outputFile("second").lastModified()).isNotEqualTo(OLD_TIMESTAMP);
+  }
+
+  @Test
+  void shouldOnlyStripEndingFromFileName() {
+    // arrange
+    writeTemplate("nested.cute/third", "HEADER_1.hasTag(\"orgAdmin\")");
+    combineMojo.execute();
+    File output = outputFile("nested.cute/third");
+    output.setLastModified(OLD_TIMESTAMP);
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(output).isFile();
+    assertThat(output.lastModified()).isEqualTo(OLD_TIMESTAMP);
+    assertThat(new File(outputDir(), "nested")).doesNotExist();
+  }
+
+  @Test
+  void shouldRegenerateAllTemplatesIfPluginVersionChanged() {
+    // arrange
+    combineMojo.setPluginVersion("1.0.0");
+    combineMojo.execute();
+    outputFile("first").setLastModified(OLD_TIMESTAMP);
+    combineMojo.setPluginVersion("1.0.1");
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(outputFile("first").lastModified()).isNotEqualTo(OLD_TIMESTAMP);
+  }
+
+  @Test
+  void shouldNotRegenerateTemplatesIfOnlyParallelismChanged() {
+    // arrange
+    combineMojo.execute();
+    outputFile("first").setLastModified(OLD_TIMESTAMP);
+    combineMojo.setParallelism(4);
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(outputFile("first").lastModified()).isEqualTo(OLD_TIMESTAMP);
+  }
+
+  @Test
+  void shouldNotWriteManifestIfErrorsOccurred() {
+    // arrange
+    writeTemplate("second", "HEADER_2.hasTag(\"unknown\")");
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(combineMojo.getTableSizeErrorLog()).isNotEmpty();
+    assertThat(MANIFEST).doesNotExist();
+  }
+
+  private File outputFile(String name) {
+    return new File(outputDir(), name + ".feature");
+  }
+
+  private void writeTemplate(String name, String filter) {
+    writeFile(new File(inputDir(), name + ".feature.cute"), String.format(TEMPLATE, filter));
+  }
+
+  @SneakyThrows
+  private void writeFile(File file, String content) {
+    writeStringToFile(file, content, UTF_8);
+  }
+}
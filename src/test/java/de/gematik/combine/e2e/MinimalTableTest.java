@@ -24,7 +24,6 @@ import static de.gematik.combine.CombineMojo.MINIMAL_TABLE_ERROR_HEADER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import de.gematik.combine.CombineMojo;
 import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -39,8 +38,12 @@ class MinimalTableTest extends AbstractCombineMojoTest {
   void shouldNotThrowException() {
     combineMojo.setBreakIfTableToSmall(true);
     int retries = 20;
-    IntStream.range(0, retries).forEach(i -> combineMojo.execute());
-    assertThat(CombineMojo.getMinimalTableErrorLog()).hasSize(retries * TESTCASES_IN_FILE);
+    IntStream.range(0, retries)
+        .forEach(
+            i -> {
+              combineMojo.execute();
+              assertThat(combineMojo.getMinimalTableErrorLog()).hasSize(TESTCASES_IN_FILE);
+            });
   }
 
   @Test
@@ -50,7 +53,7 @@ class MinimalTableTest extends AbstractCombineMojoTest {
     assertThatThrownBy(() -> combineMojo.execute())
         .isInstanceOf(MojoExecutionException.class)
         .hasMessageStartingWith(MINIMAL_TABLE_ERROR_HEADER);
-    assertThat(CombineMojo.getMinimalTableErrorLog()).hasSize(TESTCASES_IN_FILE);
+    assertThat(combineMojo.getMinimalTableErrorLog()).hasSize(TESTCASES_IN_FILE);
   }
 
   @Override
@@ -0,0 +1,74 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class ParallelCombineTest extends AbstractCombineMojoTest {
+
+  private static final List<String> FILES =
+      List.of("first.feature", "second.feature", "third.feature");
+
+  @Test
+  void shouldGenerateSameFilesAndErrorsInParallel() {
+    // arrange
+    combineMojo.execute();
+    List<String> sequentialFiles = FILES.stream().map(this::readFile).toList();
+    List<String> sequentialErrors = allErrors();
+    combineMojo.setParallelism(4);
+    // act
+    combineMojo.execute();
+    // assert
+    assertThat(FILES.stream().map(this::readFile)).containsExactlyElementsOf(sequentialFiles);
+    assertThat(allErrors()).isNotEmpty().containsExactlyElementsOf(sequentialErrors);
+  }
+
+  @Test
+  void shouldLogMissingPropertiesOncePerItemInItemOrder() {
+    // arrange
+    combineMojo.setParallelism(4);
+    // act
+    combineMojo.execute();
+    // assert
+    InOrder inOrder = inOrder(log);
+    inOrder.verify(log, times(1)).info("item Api1 does not have property os");
+    inOrder.verify(log, times(1)).info("item Api3 does not have property os");
+    inOrder.verify(log, times(1)).info("item Api6 does not have property os");
+  }
+
+  private List<String> allErrors() {
+    return Stream.of(
+            combineMojo.getMinimalTableErrorLog(),
+            combineMojo.getTableSizeErrorLog(),
+            combineMojo.getPropertyErrorLog(),
+            combineMojo.getWarningsLog())
+        .flatMap(List::stream)
+        .toList();
+  }
+}
@@ -31,7 +31,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
-import de.gematik.combine.CombineMojo;
 import de.gematik.combine.FilterConfiguration;
 import de.gematik.combine.ProjectFilters;
 import de.gematik.combine.util.CompareOperator;
@@ -80,7 +79,7 @@ class VersionFilterTest extends AbstractCombineMojoTest {
     combineMojo.execute();
 
     // assert
-    assertThat(CombineMojo.getPropertyErrorLog()).isEmpty();
+    assertThat(combineMojo.getPropertyErrorLog()).isEmpty();
   }
 
   @Test
@@ -92,7 +91,7 @@ class VersionFilterTest extends AbstractCombineMojoTest {
     combineMojo.execute();
 
     // assert
-    assertThat(CombineMojo.getPropertyErrorLog()).hasSize(PROPERTY_REQUESTS_IN_FILE);
+    assertThat(combineMojo.getPropertyErrorLog()).hasSize(PROPERTY_REQUESTS_IN_FILE);
   }
 
   @ParameterizedTest
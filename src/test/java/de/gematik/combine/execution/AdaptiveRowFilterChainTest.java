@@ -0,0 +1,75 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static de.gematik.combine.execution.AdaptiveRowFilterChain.SAMPLE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import de.gematik.combine.filter.table.row.RowFilter;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRowFilterChainTest {
+
+  private final List<TableCell> row =
+      List.of(new TableCell("A", CombineItem.builder().value("Api1").build()));
+
+  private final Log log = mock(Log.class);
+
+  @Test
+  void shouldEvaluateCheapRejectingFiltersFirst() {
+    // arrange
+    RowFilter expensive =
+        tableRow -> {
+          LockSupport.parkNanos(100_000);
+          return true;
+        };
+    RowFilter rejecting = tableRow -> false;
+    AdaptiveRowFilterChain chain = new AdaptiveRowFilterChain(List.of(expensive, rejecting), log);
+    // act
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      chain.test(row);
+    }
+    // assert
+    assertThat(chain.getFilters()).containsExactly(rejecting, expensive);
+  }
+
+  @Test
+  void shouldReturnConjunctionOfFilters() {
+    // arrange
+    RowFilter passing = tableRow -> true;
+    RowFilter rejecting = tableRow -> false;
+    AdaptiveRowFilterChain chain = new AdaptiveRowFilterChain(List.of(rejecting, passing), log);
+    // act
+    boolean passed = false;
+    for (int i = 0; i <= SAMPLE_SIZE; i++) {
+      passed |= chain.test(row);
+    }
+    // assert
+    assertThat(passed).isFalse();
+    assertThat(new AdaptiveRowFilterChain(List.of(passing), log).test(row)).isTrue();
+  }
+}
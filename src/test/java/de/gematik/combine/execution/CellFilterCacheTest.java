@@ -0,0 +1,100 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static de.gematik.combine.execution.ProcessingContext.DEFAULT_VERSION_PROPERTY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import de.gematik.combine.filter.table.cell.AbstractCellFilter;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+
+class CellFilterCacheTest {
+
+  private final CellFilterCache cache = new CellFilterCache();
+  private final CombineItem item = CombineItem.builder().value("Api1").build();
+  private final ProcessingContext context =
+      new ProcessingContext(mock(Log.class), DEFAULT_VERSION_PROPERTY);
+
+  @Test
+  void shouldReuseResultOfEqualFilters() {
+    // arrange
+    CountingFilter filter = new CountingFilter("A", true);
+    CountingFilter equalFilter = new CountingFilter("A", true);
+    // act
+    boolean first = cache.test(filter, new TableCell("HEADER", item), context);
+    boolean second = cache.test(equalFilter, new TableCell("HEADER", item), context);
+    // assert
+    assertThat(first).isFalse();
+    assertThat(second).isFalse();
+    assertThat(filter.evaluations + equalFilter.evaluations).isEqualTo(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSeparateColumnsAndItems() {
+    // arrange
+    CountingFilter filter = new CountingFilter("A", true);
+    CombineItem equalItem = CombineItem.builder().value("Api1").build();
+    // act
+    cache.test(filter, new TableCell("HEADER", item), context);
+    cache.test(filter, new TableCell("OTHER_HEADER", item), context);
+    cache.test(filter, new TableCell("HEADER", equalItem), context);
+    // assert
+    assertThat(filter.evaluations).isEqualTo(3);
+  }
+
+  @Test
+  void shouldAlwaysEvaluateFiltersThatAreNotCacheable() {
+    // arrange
+    CountingFilter filter = new CountingFilter("A", false);
+    // act
+    cache.test(filter, new TableCell("HEADER", item), context);
+    cache.test(filter, new TableCell("HEADER", item), context);
+    // assert
+    assertThat(filter.evaluations).isEqualTo(2);
+  }
+
+  @RequiredArgsConstructor
+  @EqualsAndHashCode(callSuper = false, onlyExplicitlyIncluded = true)
+  private static class CountingFilter extends AbstractCellFilter {
+
+    @EqualsAndHashCode.Include private final String name;
+    private final boolean cacheable;
+    private int evaluations;
+
+    @Override
+    public boolean test(TableCell tableCell) {
+      evaluations++;
+      return false;
+    }
+
+    @Override
+    public boolean isCacheable(TableCell tableCell) {
+      return cacheable;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.execution;
+
+import static de.gematik.combine.CombineMojo.ErrorType.WARNING;
+import static de.gematik.combine.execution.ProcessingContext.DEFAULT_VERSION_PROPERTY;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+
+class CoveringArrayGeneratorTest {
+
+  private final List<String> columns = List.of("A", "B", "C");
+  private final List<List<TableCell>> preparedColumns =
+      columns.stream()
+          .map(
+              column ->
+                  IntStream.range(0, 2)
+                      .mapToObj(
+                          i ->
+                              new TableCell(
+                                  column, CombineItem.builder().value(column + i).build()))
+                      .collect(toList()))
+          .collect(toList());
+  private final TableSchema schema = new TableSchema(columns, preparedColumns);
+  private final ProcessingContext context =
+      new ProcessingContext(mock(Log.class), DEFAULT_VERSION_PROPERTY).child("scenario");
+
+  @Test
+  void shouldNotReportAnythingIfAllTuplesAreCovered() {
+    // arrange
+    CoveringArrayGenerator generator =
+        new CoveringArrayGenerator(preparedColumns, List.of(), schema, 2, context);
+    // act
+    List<List<TableCell>> rows = generator.generate();
+    // assert
+    assertThat(rows).isNotEmpty();
+    assertThat(context.getErrorCount()).isZero();
+  }
+
+  @Test
+  void shouldReportTuplesMissedBecauseSearchWasAborted() {
+    // arrange
+    CoveringArrayGenerator generator =
+        new CoveringArrayGenerator(preparedColumns, List.of(), schema, 2, 0, context);
+    // act
+    List<List<TableCell>> rows = generator.generate();
+    // assert
+    assertThat(rows).isEmpty();
+    assertThat(context.getErrors(WARNING))
+        .singleElement()
+        .asString()
+        .contains("scenario \"scenario\" misses 12 combinations")
+        .contains("[A=A0, B=B0]", "[B=B0, C=C1], ...");
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.execution;
+
+import static de.gematik.combine.CombineMojo.ErrorType.PROPERTY;
+import static de.gematik.combine.execution.ProcessingContext.DEFAULT_VERSION_PROPERTY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import de.gematik.combine.CombineConfiguration;
+import de.gematik.combine.execution.GeneratedTableCache.Key;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+
+class GeneratedTableCacheTest {
+
+  private final GeneratedTableCache cache = new GeneratedTableCache();
+  private final CombineConfiguration config = CombineConfiguration.builder().build();
+  private final List<CombineItem> items = List.of(CombineItem.builder().value("Api1").build());
+  private final AtomicInteger generations = new AtomicInteger();
+  private final Supplier<List<List<TableCell>>> generator =
+      () -> {
+        generations.incrementAndGet();
+        return List.of(List.of(new TableCell("A", items.get(0))));
+      };
+
+  private final ProcessingContext context =
+      new ProcessingContext(mock(Log.class), DEFAULT_VERSION_PROPERTY);
+
+  private Key key(List<String> tags, List<CombineItem> combineItems) {
+    return new Key(List.of("A"), tags, true, config, combineItems);
+  }
+
+  @Test
+  void shouldReuseTableOfEqualExamples() {
+    // act
+    List<List<TableCell>> first =
+        cache.getOrGenerate(key(List.of("@MaxRows(1)"), items), true, context, generator);
+    List<List<TableCell>> second =
+        cache.getOrGenerate(
+            key(new ArrayList<>(List.of("@MaxRows(1)")), items), true, context, generator);
+    // assert
+    assertThat(generations).hasValue(1);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void shouldGenerateTableForDifferentInputs() {
+    // act
+    cache.getOrGenerate(key(List.of("@MaxRows(1)"), items), true, context, generator);
+    cache.getOrGenerate(key(List.of("@MaxRows(2)"), items), true, context, generator);
+    cache.getOrGenerate(
+        key(List.of("@MaxRows(1)"), new ArrayList<>(items)), true, context, generator);
+    // assert
+    assertThat(generations).hasValue(3);
+  }
+
+  @Test
+  void shouldNotReuseUncacheableTables() {
+    // act
+    cache.getOrGenerate(key(List.of("@Shuffle"), items), false, context, generator);
+    cache.getOrGenerate(key(List.of("@Shuffle"), items), false, context, generator);
+    // assert
+    assertThat(generations).hasValue(2);
+  }
+
+  @Test
+  void shouldNotReuseTablesWithErrors() {
+    // arrange
+    Supplier<List<List<TableCell>>> failingGenerator =
+        () -> {
+          context.appendError("missing property", PROPERTY);
+          return generator.get();
+        };
+    // act
+    cache.getOrGenerate(key(List.of(), items), true, context, failingGenerator);
+    cache.getOrGenerate(key(List.of(), items), true, context, failingGenerator);
+    // assert
+    assertThat(generations).hasValue(2);
+    assertThat(context.getErrors(PROPERTY)).hasSize(2);
+  }
+}
@@ -20,29 +20,27 @@
 
 package de.gematik.combine.execution;
 
+import static de.gematik.combine.execution.FileProcessor.parseGherkinString;
+import static de.gematik.combine.execution.ProcessingContext.DEFAULT_VERSION_PROPERTY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
 import de.gematik.combine.CombineConfiguration;
-import de.gematik.combine.CombineMojo;
 import io.cucumber.messages.types.GherkinDocument;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
 import org.apache.maven.plugin.logging.Log;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.io.File;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
-
-import static de.gematik.combine.execution.FileProcessor.parseGherkinString;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
-
 class GherkinProcessorTest {
 
-  private Log log;
+  private ProcessingContext context;
   private ScenarioProcessor sp;
   CombineConfiguration config =
       CombineConfiguration.builder()
@@ -56,11 +54,8 @@ class GherkinProcessorTest {
 
   @BeforeEach
   public void setup() {
-    CombineMojo mojo = mock(CombineMojo.class);
-    log = mock(Log.class);
+    context = new ProcessingContext(mock(Log.class), DEFAULT_VERSION_PROPERTY);
     sp = mock(ScenarioProcessor.class);
-    when(mojo.getLog()).thenReturn(log);
-    CombineMojo.setInstance(mojo);
   }
 
   @Test
@@ -73,9 +68,9 @@ class GherkinProcessorTest {
     GherkinDocument gd = parseGherkinString(f.toURI().toString(), FileUtils.readFileToString(f, StandardCharsets.UTF_8));
     GherkinProcessor gp = new GherkinProcessor(sp);
     // act
-    gp.generateExamples(gd, config, null);
+    gp.generateExamples(gd, config, null, context);
     // assert
-    verify(sp, times(0)).generateExamples(any(), any(), any());
+    verify(sp, times(0)).generateExamples(any(), any(), any(), any());
   }
 
   @Test
@@ -88,8 +83,8 @@ class GherkinProcessorTest {
     GherkinDocument gd = parseGherkinString(f.toURI().toString(), FileUtils.readFileToString(f, StandardCharsets.UTF_8));
     GherkinProcessor gp = new GherkinProcessor(sp);
     // act
-    gp.generateExamples(gd, config, null);
+    gp.generateExamples(gd, config, null, context);
     // assert
-    verify(sp, times(1)).generateExamples(any(), any(), any());
+    verify(sp, times(1)).generateExamples(any(), any(), any(), any());
   }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.execution;
+
+import static de.gematik.combine.CombineMojo.ErrorType.PROPERTY;
+import static de.gematik.combine.CombineMojo.ErrorType.SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+
+class ProcessingContextTest {
+
+  private final Log log = mock(Log.class);
+  private final ProcessingContext context = new ProcessingContext(log, "customVersion");
+
+  @Test
+  void childShouldShareLogAndVersionProperty() {
+    // act
+    ProcessingContext child = context.child("scenario");
+    ProcessingContext grandChild = child.child();
+    // assert
+    assertThat(child.getLog()).isSameAs(log);
+    assertThat(child.getVersionProperty()).isEqualTo("customVersion");
+    assertThat(child.getScenarioName()).isEqualTo("scenario");
+    assertThat(grandChild.getScenarioName()).isEqualTo("scenario");
+    assertThat(context.getScenarioName()).isNull();
+  }
+
+  @Test
+  void shouldCollectErrorsPerTask() {
+    // arrange
+    ProcessingContext child = context.child("scenario");
+    // act
+    child.appendError("error", SIZE);
+    context.appendError("other", PROPERTY);
+    // assert
+    assertThat(child.getErrors(SIZE)).containsExactly("error");
+    assertThat(child.getErrorCount()).isOne();
+    assertThat(context.getErrors(SIZE)).isEmpty();
+    assertThat(context.getErrors(PROPERTY)).containsExactly("other");
+  }
+
+  @Test
+  void shouldRunTasksOnThePoolOfTheExecution() {
+    // arrange
+    ForkJoinPool pool = new ForkJoinPool(2);
+    ProcessingContext child = new ProcessingContext(log, "customVersion", pool).child("scenario");
+    try {
+      // act
+      List<ForkJoinPool> pools =
+          child.compute(
+              () ->
+                  IntStream.range(0, 100)
+                      .parallel()
+                      .mapToObj(i -> child.compute(ForkJoinTask::getPool))
+                      .toList());
+      // assert
+      assertThat(child.getParallelism()).isEqualTo(2);
+      assertThat(pools).hasSize(100).containsOnly(pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void shouldRunTasksInCallingThreadWithoutPool() {
+    // act
+    Thread thread = context.compute(Thread::currentThread);
+    // assert
+    assertThat(context.getParallelism()).isOne();
+    assertThat(thread).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  void shouldPassErrorsInAppendOrder() {
+    // arrange
+    context.appendError("first", PROPERTY);
+    context.appendError("second", SIZE);
+    List<String> errors = new ArrayList<>();
+    // act
+    context.forEachError((error, type) -> errors.add(type + ":" + error));
+    // assert
+    assertThat(errors).containsExactly("PROPERTY:first", "SIZE:second");
+  }
+}
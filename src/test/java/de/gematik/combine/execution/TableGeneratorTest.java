@@ -20,30 +20,56 @@
 
 package de.gematik.combine.execution;
 
+import static de.gematik.combine.execution.ProcessingContext.DEFAULT_VERSION_PROPERTY;
+import static de.gematik.combine.tags.parser.AllowDoubleLineupTagParser.ALLOW_DOUBLE_LINEUP_TAG;
+import static de.gematik.combine.tags.parser.MaxRowsTagParser.MAX_ROWS_TAG;
+import static de.gematik.combine.tags.parser.ShuffleTagParser.SHUFFLE_TAG;
+import static java.util.Collections.synchronizedSet;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
-import de.gematik.combine.CombineMojo;
+import de.gematik.combine.CombineConfiguration;
 import de.gematik.combine.FilterConfiguration;
 import de.gematik.combine.filter.Filters;
+import de.gematik.combine.filter.table.DistinctColumnFilter;
+import de.gematik.combine.filter.table.DoubleLineupFilter;
+import de.gematik.combine.filter.table.MaxRowsFilter;
+import de.gematik.combine.filter.table.ShuffleTableFilter;
 import de.gematik.combine.filter.table.cell.CellFilter;
 import de.gematik.combine.filter.table.cell.JexlCellFilter;
 import de.gematik.combine.filter.table.row.DistinctRowPropertyFilter;
 import de.gematik.combine.filter.table.row.EqualRowPropertyFilter;
 import de.gematik.combine.filter.table.row.JexlRowFilter;
+import de.gematik.combine.filter.table.row.SelfCombineFilter;
 import de.gematik.combine.filter.table.row.TableRowFilter;
 import de.gematik.combine.model.CombineItem;
 import de.gematik.combine.model.TableCell;
 import de.gematik.combine.tags.ConfiguredFilters;
+import de.gematik.combine.tags.ParsedTags;
+import de.gematik.combine.tags.TagParser;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
 import org.apache.maven.plugin.logging.Log;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,12 +77,12 @@ class TableGeneratorTest {
 
   Log log;
 
+  ProcessingContext context;
+
   @BeforeEach
   public void setup() {
-    CombineMojo mojo = mock(CombineMojo.class);
     log = mock(Log.class);
-    when(mojo.getLog()).thenReturn(log);
-    CombineMojo.setInstance(mojo);
+    context = new ProcessingContext(log, DEFAULT_VERSION_PROPERTY);
   }
 
   TableGenerator tableGenerator = new TableGenerator();
@@ -78,7 +104,7 @@ class TableGeneratorTest {
           new ConfiguredFilters(
               FilterConfiguration.builder().build(), headers, Filters.builder().build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
@@ -105,12 +131,223 @@ class TableGeneratorTest {
               headers,
               Filters.builder().cellFilters(preparedColumnFilters).build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
           .containsExactly("Api1,Api1", "Api1,Api2", "Api1,Api3");
     }
+
+    @Test
+    void shouldApplyRowFiltersWhileGenerating() {
+      // arrange
+      List<TableRowFilter> rowFilters =
+          List.of(new JexlRowFilter("!HEADER_1.value.equals(HEADER_2.value)"));
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              FilterConfiguration.builder().build(),
+              headers,
+              Filters.builder().tableRowFilters(rowFilters).build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table)
+          .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
+          .containsExactly(
+              "Api1,Api2", "Api1,Api3", "Api2,Api1", "Api2,Api3", "Api3,Api1", "Api3,Api2");
+    }
+
+    @Test
+    void shouldSkipSubtreesOfFailingPartialRows() {
+      // arrange
+      List<String> headers = List.of("HEADER_1", "HEADER_2", "HEADER_3");
+      JexlRowFilter schemaFilter = spy(new JexlRowFilter("HEADER_1.value < HEADER_2.value"));
+      JexlRowFilter partialRowFilter = spy(new JexlRowFilter("HEADER_1.value < HEADER_2.value"));
+      doReturn(schemaFilter).when(partialRowFilter).forSchema(any());
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              FilterConfiguration.builder().build(),
+              headers,
+              Filters.builder().tableRowFilters(List.of(partialRowFilter)).build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table)
+          .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
+          .containsExactly(
+              "Api1,Api2,Api1",
+              "Api1,Api2,Api2",
+              "Api1,Api2,Api3",
+              "Api1,Api3,Api1",
+              "Api1,Api3,Api2",
+              "Api1,Api3,Api3",
+              "Api2,Api3,Api1",
+              "Api2,Api3,Api2",
+              "Api2,Api3,Api3");
+      verify(schemaFilter, times(9)).test(any());
+    }
+
+    @Test
+    void shouldStopGenerationAtRowLimit() {
+      // arrange
+      JexlRowFilter schemaFilter = spy(new JexlRowFilter("HEADER_1.value != HEADER_2.value"));
+      JexlRowFilter rowFilter = spy(new JexlRowFilter("HEADER_1.value != HEADER_2.value"));
+      doReturn(schemaFilter).when(rowFilter).forSchema(any());
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              FilterConfiguration.builder().build(),
+              headers,
+              Filters.builder()
+                  .tableRowFilters(List.of(rowFilter))
+                  .tableFilters(
+                      List.of(
+                          new ShuffleTableFilter(false),
+                          new DistinctColumnFilter("HEADER_1"),
+                          new MaxRowsFilter("2")))
+                  .build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table)
+          .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
+          .containsExactly("Api1,Api2", "Api2,Api1");
+      verify(schemaFilter, times(4)).test(any());
+    }
+
+    @Test
+    void shouldNotLimitGenerationForTableDependentRowLimit() {
+      // arrange
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              FilterConfiguration.builder().build(),
+              headers,
+              Filters.builder()
+                  .tableFilters(List.of(new MaxRowsFilter("rowCount/2")))
+                  .build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(configuredFilters.getStreamableRowLimit()).isEmpty();
+      assertThat(table).hasSize(9);
+    }
+
+    @Test
+    void shouldSampleRowsOfShuffledTableWithRowLimit() {
+      // arrange
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              FilterConfiguration.builder().shuffleCombinations(true).build(),
+              headers,
+              Filters.builder()
+                  .tableRowFilters(List.of(new SelfCombineFilter(false)))
+                  .tableFilters(List.of(new ShuffleTableFilter(true), new MaxRowsFilter("2")))
+                  .build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table)
+          .hasSize(2)
+          .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
+          .doesNotHaveDuplicates()
+          .allMatch(values -> !values.equals("Api1,Api1") && values.matches("Api[1-3],Api[1-3]"));
+      verify(log).debug("sampling 2 random rows");
+    }
+
+    @Test
+    void shouldNotSampleRowsForOrderDependentFilters() {
+      // arrange
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              FilterConfiguration.builder().shuffleCombinations(true).build(),
+              headers,
+              Filters.builder()
+                  .tableRowFilters(List.of(new SelfCombineFilter(false)))
+                  .tableFilters(
+                      List.of(
+                          new ShuffleTableFilter(true),
+                          new DoubleLineupFilter(false),
+                          new MaxRowsFilter("2")))
+                  .build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table).hasSize(6);
+      verify(log, never()).debug(startsWith("sampling"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"true, true", "false, false"})
+    void shouldSampleConfiguredTablesOnlyWithoutOrderDependentFilters(
+        boolean allowDoubleLineup, boolean sampled) {
+      // arrange
+      ParsedTags parsedTags =
+          new TagParser()
+              .parseTags(
+                  List.of(
+                      "@" + SHUFFLE_TAG,
+                      "@" + MAX_ROWS_TAG + "(2)",
+                      "@" + ALLOW_DOUBLE_LINEUP_TAG + "(" + allowDoubleLineup + ")"),
+                  headers,
+                  log);
+      ConfiguredFilters configuredFilters =
+          parsedTags.configureFilters(
+              CombineConfiguration.builder()
+                  .filterConfiguration(FilterConfiguration.builder().build())
+                  .build(),
+              true);
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(configuredFilters.hasOrderDependentFilters()).isNotEqualTo(sampled);
+      assertThat(table).hasSize(sampled ? 2 : 6);
+      verify(log, times(sampled ? 1 : 0)).debug("sampling 2 random rows");
+    }
+
+    @Test
+    void shouldCreateSameTableInParallel() {
+      // arrange
+      List<CombineItem> items =
+          IntStream.range(0, 10)
+              .mapToObj(i -> CombineItem.builder().value("Api" + i).build())
+              .collect(toList());
+      List<String> headers = List.of("HEADER_1", "HEADER_2", "HEADER_3", "HEADER_4");
+      Set<ForkJoinPool> searchPools = synchronizedSet(new HashSet<>());
+      TableRowFilter recordingFilter =
+          new TableRowFilter() {
+            @Override
+            public boolean test(List<TableCell> row) {
+              searchPools.add(ForkJoinTask.getPool());
+              return true;
+            }
+          };
+      List<TableRowFilter> rowFilters =
+          List.of(
+              new JexlRowFilter("HEADER_1.value != HEADER_3.value"),
+              new SelfCombineFilter(false),
+              new JexlRowFilter("HEADER_2.value < HEADER_4.value"),
+              recordingFilter);
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              FilterConfiguration.builder().build(),
+              headers,
+              Filters.builder().tableRowFilters(rowFilters).build());
+      ForkJoinPool pool = new ForkJoinPool(4);
+      ProcessingContext parallelContext =
+          new ProcessingContext(log, DEFAULT_VERSION_PROPERTY, pool);
+      try {
+        // act
+        List<List<TableCell>> table =
+            tableGenerator.generateTable(items, configuredFilters, context);
+        searchPools.clear();
+        List<List<TableCell>> parallelTable =
+            tableGenerator.generateTable(items, configuredFilters, parallelContext);
+        // assert
+        assertThat(parallelTable).isNotEmpty().isEqualTo(table);
+        assertThat(searchPools).containsExactly(pool);
+      } finally {
+        pool.shutdown();
+      }
+    }
   }
 
   @Nested
@@ -140,7 +377,7 @@ class TableGeneratorTest {
                               "HEADER_1.properties[\"prop\"].equals(HEADER_3.properties[\"prop\"])")))
                   .build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
@@ -153,7 +390,7 @@ class TableGeneratorTest {
       ConfiguredFilters configuredFilters =
           new ConfiguredFilters(config, headers, Filters.builder().build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
@@ -170,7 +407,7 @@ class TableGeneratorTest {
           new ConfiguredFilters(
               config, headers, Filters.builder().cellFilters(preparedColumnFilters).build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
@@ -185,7 +422,7 @@ class TableGeneratorTest {
           new ConfiguredFilters(
               config, headers, Filters.builder().tableRowFilters(rowFilters).build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
@@ -208,7 +445,7 @@ class TableGeneratorTest {
                   .tableRowFilters(rowFilters)
                   .build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
@@ -238,7 +475,7 @@ class TableGeneratorTest {
                   .tableRowFilters(rowFilters)
                   .build());
       // act
-      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters);
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
       // assert
       assertThat(table)
           .extracting(row -> row.stream().map(TableCell::getValue).collect(joining(",")))
@@ -246,6 +483,72 @@ class TableGeneratorTest {
     }
   }
 
+  @Nested
+  class CoveringTable {
+
+    FilterConfiguration config = FilterConfiguration.builder().tWise(2).build();
+    List<CombineItem> items =
+        IntStream.range(0, 4)
+            .mapToObj(i -> CombineItem.builder().value("Api" + i).build())
+            .collect(toList());
+    List<String> headers = List.of("HEADER_1", "HEADER_2", "HEADER_3", "HEADER_4");
+
+    @Test
+    void shouldCoverEveryPairOfValues() {
+      // arrange
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(config, headers, Filters.builder().build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table).hasSizeLessThan(4 * 4 * 4 * 4);
+      for (int first = 0; first < headers.size(); first++) {
+        for (int second = first + 1; second < headers.size(); second++) {
+          assertThat(pairs(table, first, second)).hasSize(items.size() * items.size());
+        }
+      }
+    }
+
+    @Test
+    void shouldOnlyCoverPairsAllowedByRowFilters() {
+      // arrange
+      List<TableRowFilter> rowFilters =
+          List.of(new JexlRowFilter("HEADER_1.value < HEADER_2.value"), new SelfCombineFilter(false));
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(
+              config, headers, Filters.builder().tableRowFilters(rowFilters).build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table)
+          .isNotEmpty()
+          .allMatch(row -> row.get(0).getValue().compareTo(row.get(1).getValue()) < 0)
+          .allMatch(row -> row.stream().map(TableCell::getValue).distinct().count() == 4);
+      assertThat(pairs(table, 0, 1))
+          .containsExactlyInAnyOrder(
+              "Api0,Api1", "Api0,Api2", "Api0,Api3", "Api1,Api2", "Api1,Api3", "Api2,Api3");
+    }
+
+    @Test
+    void shouldCreateFullTableIfStrengthCoversAllColumns() {
+      // arrange
+      List<String> headers = List.of("HEADER_1", "HEADER_2");
+      ConfiguredFilters configuredFilters =
+          new ConfiguredFilters(config, headers, Filters.builder().build());
+      // act
+      List<List<TableCell>> table = tableGenerator.generateTable(items, configuredFilters, context);
+      // assert
+      assertThat(table).hasSize(16);
+    }
+
+    private List<String> pairs(List<List<TableCell>> table, int first, int second) {
+      return table.stream()
+          .map(row -> row.get(first).getValue() + "," + row.get(second).getValue())
+          .distinct()
+          .collect(toList());
+    }
+  }
+
   private Map<String, List<CellFilter>> preparedColumnFilters(
       String column, String filterExpression) {
     return Map.of(column, List.of(new JexlCellFilter(column, filterExpression)));
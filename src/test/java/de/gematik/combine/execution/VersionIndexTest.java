@@ -0,0 +1,103 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.execution;
+
+import static de.gematik.combine.model.properties.Version.getSemanticVersion;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import de.gematik.combine.filter.table.cell.VersionFilter;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.util.CompareOperator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class VersionIndexTest {
+
+  private static final String VERSION = "version";
+
+  private final List<CombineItem> items =
+      List.of(
+          item("A", "1.2.0"),
+          item("B", "0.9"),
+          item("C", "1.2"),
+          item("D", "2.0.1"),
+          item("E", "1.10.0"),
+          CombineItem.builder().value("F").build(),
+          item("G", "invalid"));
+
+  private static CombineItem item(String value, String version) {
+    return CombineItem.builder().value(value).property(VERSION, version).build();
+  }
+
+  static Stream<Arguments> operators() {
+    return Stream.of(
+        arguments(CompareOperator.EQ, List.of("A", "C")),
+        arguments(CompareOperator.NE, List.of("B", "D", "E")),
+        arguments(CompareOperator.LT, List.of("B")),
+        arguments(CompareOperator.LE, List.of("A", "B", "C")),
+        arguments(CompareOperator.GT, List.of("D", "E")),
+        arguments(CompareOperator.GE, List.of("A", "C", "D", "E")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("operators")
+  void shouldFindMatchingItems(CompareOperator operator, List<String> expected) {
+    // arrange
+    VersionIndex index = new VersionIndex(items, VERSION);
+    VersionFilter filter = new VersionFilter(operator, getSemanticVersion("1.2"));
+    // act
+    List<String> matching =
+        items.stream()
+            .filter(index.matching(filter)::contains)
+            .map(CombineItem::getValue)
+            .collect(toList());
+    // assert
+    assertThat(matching).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void shouldNotIndexItemsWithoutValidVersion() {
+    // act
+    VersionIndex index = new VersionIndex(items, VERSION);
+    // assert
+    assertThat(index.contains(items.get(0))).isTrue();
+    assertThat(index.contains(items.get(5))).isFalse();
+    assertThat(index.contains(items.get(6))).isFalse();
+    assertThat(index.contains(item("A", "1.2.0"))).isFalse();
+  }
+
+  @Test
+  void shouldOnlyBeIndexOfSameItemsAndProperty() {
+    // act
+    VersionIndex index = new VersionIndex(items, VERSION);
+    // assert
+    assertThat(index.isIndexOf(items, VERSION)).isTrue();
+    assertThat(index.isIndexOf(List.copyOf(items.subList(0, 2)), VERSION)).isFalse();
+    assertThat(index.isIndexOf(items, "other")).isFalse();
+  }
+}
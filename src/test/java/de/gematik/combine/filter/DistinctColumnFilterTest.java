@@ -23,33 +23,18 @@ package de.gematik.combine.filter;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
-import de.gematik.combine.CombineMojo;
 import de.gematik.combine.filter.table.DistinctColumnFilter;
 import de.gematik.combine.model.CombineItem;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
 import lombok.SneakyThrows;
-import org.apache.maven.plugin.logging.Log;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class DistinctColumnFilterTest {
 
   public static final String COLUMN_NAME = "A";
 
-  Log log;
-
-  @BeforeEach
-  public void setup() {
-    CombineMojo mojo = mock(CombineMojo.class);
-    log = mock(Log.class);
-    when(mojo.getLog()).thenReturn(log);
-    CombineMojo.setInstance(mojo);
-  }
-
   private List<List<TableCell>> singleColumn(String... values) {
     return stream(values)
         .map(
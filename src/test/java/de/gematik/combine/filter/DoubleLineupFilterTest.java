@@ -20,32 +20,19 @@
 
 package de.gematik.combine.filter;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
-import de.gematik.combine.CombineMojo;
 import de.gematik.combine.filter.table.DoubleLineupFilter;
 import de.gematik.combine.model.CombineItem;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.SneakyThrows;
-import org.apache.maven.plugin.logging.Log;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class DoubleLineupFilterTest {
 
-  Log log;
-
-  @BeforeEach
-  public void setup() {
-    CombineMojo mojo = mock(CombineMojo.class);
-    log = mock(Log.class);
-    when(mojo.getLog()).thenReturn(log);
-    CombineMojo.setInstance(mojo);
-  }
-
   private List<List<TableCell>> table() {
     return List.of(
         List.of(
@@ -81,4 +68,24 @@ class DoubleLineupFilterTest {
     // assert
     assertThat(result).hasSize(2);
   }
+
+  @Test
+  @SneakyThrows
+  void shouldCompareValuesNotTheirConcatenation() {
+    // arrange
+    DoubleLineupFilter filter = new DoubleLineupFilter(false);
+    List<List<TableCell>> table = List.of(row("AB", "C"), row("A", "BC"), row("C", "AB"));
+
+    // act
+    List<List<TableCell>> result = filter.apply(table);
+
+    // assert
+    assertThat(result).containsExactly(row("AB", "C"), row("A", "BC"));
+  }
+
+  private List<TableCell> row(String... values) {
+    return Stream.of(values)
+        .map(value -> new TableCell("header", CombineItem.builder().value(value).build()))
+        .collect(toList());
+  }
 }
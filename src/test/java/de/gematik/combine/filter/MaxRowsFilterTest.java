@@ -20,7 +20,6 @@
 
 package de.gematik.combine.filter;
 
-import static de.gematik.utils.MockPluginLog.withMockedPluginLog;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +30,7 @@ import de.gematik.combine.filter.table.MaxRowsFilter;
 import de.gematik.combine.model.CombineItem;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -79,12 +79,33 @@ class MaxRowsFilterTest {
     List<List<TableCell>> column = singleColumn("foo", "bar", "foo", "baz");
 
     // act
-    List<List<TableCell>> filtered = withMockedPluginLog(() -> filter.apply(column));
+    List<List<TableCell>> filtered = filter.apply(column);
 
     // assert
     assertThat(filtered).hasSize(expectedSize);
   }
 
+  static Stream<Arguments> constantMaxRows() {
+    return Stream.of(
+        arguments("4", OptionalInt.of(4)),
+        arguments("2+1", OptionalInt.of(3)),
+        arguments("rowCount-2", OptionalInt.empty()),
+        arguments("columnCount*2", OptionalInt.empty()),
+        arguments("A.tags.count(\"foo\")", OptionalInt.empty()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("constantMaxRows")
+  void shouldOnlyProvideMaxRowsIndependentOfTable(
+      String filterExpression, OptionalInt expectedMaxRows) {
+    // arrange
+    MaxRowsFilter filter = new MaxRowsFilter(filterExpression);
+    // act
+    OptionalInt maxRows = filter.getConstantMaxRows();
+    // assert
+    assertThat(maxRows).isEqualTo(expectedMaxRows);
+  }
+
   @Test
   @SneakyThrows
   void shouldRejectInvalidExpression() {
@@ -93,7 +114,7 @@ class MaxRowsFilterTest {
     List<List<TableCell>> column = singleColumn("foo");
 
     // act
-    assertThatThrownBy(() -> withMockedPluginLog(() -> filter.apply(column)))
+    assertThatThrownBy(() -> filter.apply(column))
         // assert
         .isInstanceOf(MojoExecutionException.class)
         .hasMessageContaining("Could not evaluate expression 'invalid'");
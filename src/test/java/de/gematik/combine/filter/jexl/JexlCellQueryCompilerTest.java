@@ -0,0 +1,108 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static de.gematik.combine.filter.jexl.JexlCellQueryCompiler.compile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.ItemDictionary;
+import de.gematik.combine.model.TableCell;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import lombok.SneakyThrows;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JexlCellQueryCompilerTest {
+
+  private final List<CombineItem> items =
+      List.of(
+          CombineItem.builder()
+              .value("A1")
+              .tag("orgAdmin")
+              .property("homeserver", "X")
+              .property("priority", "1")
+              .build(),
+          CombineItem.builder().value("A2").tag("client").property("homeserver", "Y").build(),
+          CombineItem.builder()
+              .value("A3")
+              .tag("client")
+              .tag("orgAdmin")
+              .property("homeserver", "X")
+              .build(),
+          CombineItem.builder().value("A4").build());
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "A.hasTag(\"orgAdmin\")",
+        "A.hasTag(\"unknown\")",
+        "!A.hasTag(\"client\")",
+        "A.hasProperty(\"priority\")",
+        "A.properties.homeserver == \"X\"",
+        "'Y' == A.properties[\"homeserver\"]",
+        "A.properties.homeserver != 'X'",
+        "A.properties.unknown == 'X'",
+        "A.hasTag('client') && A.properties.homeserver == 'X'",
+        "A.hasTag('orgAdmin') || !(A.hasProperty('homeserver') and true)",
+        "false || A.hasTag('client')"
+      })
+  @SneakyThrows
+  void shouldFindSameItemsAsJexl(String expression) {
+    // arrange
+    ItemDictionary dictionary = ItemDictionary.freeze(items);
+    Function<ItemDictionary, BitSet> query = compile("A", expression);
+    // act
+    BitSet matching = query.apply(dictionary);
+    // assert
+    JexlFilter jexlFilter = new JexlFilter(expression);
+    for (CombineItem item : items) {
+      jexlFilter.addToContext(new TableCell("A", item));
+      boolean expected = jexlFilter.evaluate();
+      assertThat(matching.get(item.frozen().getOrdinal()))
+          .as("%s for %s", expression, item)
+          .isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "B.hasTag(\"orgAdmin\")",
+        "A.hasTag(B.value)",
+        "A.properties.homeserver == ''",
+        "A.properties.homeserver == A.properties.priority",
+        "A.value == 'A1'",
+        "A.properties.homeserver.equals('X')",
+        "columnCount > 1",
+        "A.hasTag('client'); true",
+        "A.hasTag("
+      })
+  void shouldNotCompileUnsupportedExpressions(String expression) {
+    // act
+    Function<ItemDictionary, BitSet> query = compile("A", expression);
+    // assert
+    assertThat(query).isNull();
+  }
+}
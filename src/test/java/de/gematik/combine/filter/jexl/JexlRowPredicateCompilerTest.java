@@ -0,0 +1,132 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static de.gematik.combine.filter.jexl.JexlRowPredicateCompiler.compile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import de.gematik.combine.model.TableSchema;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JexlRowPredicateCompilerTest {
+
+  private final List<TableCell> row =
+      List.of(
+          new TableCell(
+              "A",
+              CombineItem.builder()
+                  .value("A1")
+                  .tag("orgAdmin")
+                  .property("homeserver", "X")
+                  .property("priority", "1")
+                  .build()),
+          new TableCell(
+              "B",
+              CombineItem.builder()
+                  .value("B1")
+                  .url("http://b1")
+                  .tag("client")
+                  .property("homeserver", "X")
+                  .property("priority", "2")
+                  .build()));
+
+  private final AtomicInteger fallbackCalls = new AtomicInteger();
+
+  private final Predicate<List<TableCell>> fallback =
+      tableRow -> {
+        fallbackCalls.incrementAndGet();
+        return false;
+      };
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "A.hasTag(\"orgAdmin\")",
+        "A.hasTag(\"client\")",
+        "!B.hasTag(\"orgAdmin\")",
+        "A.hasProperty(\"homeserver\") && !A.hasProperty(\"foo\")",
+        "A.properties.homeserver == B.properties[\"homeserver\"]",
+        "A.properties.priority == B.properties.priority",
+        "A.properties.priority != B.properties.priority || false",
+        "A.value != B.value",
+        "A.value == 'A1' and B.value == \"B1\"",
+        "(A.url == null) && B.url != null",
+        "A.properties.missing == ''",
+        "A.properties[\"homeserver\"].equals(\"X\")",
+        "A.hasTag(B.properties.homeserver) or (true && !false)"
+      })
+  void shouldEvaluateSupportedExpressionsLikeJexl(String expression) {
+    // arrange
+    JexlFilter jexlFilter = new JexlFilter(expression);
+    boolean expected = jexlFilter.evaluate(new RowJexlContext().bind(row));
+    // act
+    boolean actual = compile(expression, fallback).test(row);
+    // assert
+    assertThat(actual).isEqualTo(expected);
+    assertThat(fallbackCalls).hasValue(0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "columnCount == 2",
+        "allTags.size() == 2",
+        "A.properties.priority < B.properties.priority",
+        "A.tags.contains(\"client\")",
+        "A.properties.homeserver =~ ['X', 'Y']",
+        "A == B",
+        "C.hasTag(\"client\")",
+        "A.url.equals(\"http://a1\")"
+      })
+  void shouldFallBackForOtherExpressions(String expression) {
+    // act
+    boolean actual = compile(expression, fallback).test(row);
+    // assert
+    assertThat(actual).isFalse();
+    assertThat(fallbackCalls).hasValue(1);
+  }
+
+  @Test
+  void shouldReadColumnsAtOrdinalsOfSchema() {
+    // arrange
+    TableSchema schema =
+        new TableSchema(List.of("A", "B"), List.of(row.subList(0, 1), row.subList(1, 2)));
+    Predicate<List<TableCell>> predicate =
+        compile("A.hasTag(\"orgAdmin\") && B.value == 'B1'", schema, fallback);
+    // act
+    boolean tableRow = predicate.test(schema.row(new int[] {0, 1}));
+    boolean reorderedRow = predicate.test(List.of(row.get(1), row.get(0)));
+    boolean partialRow = predicate.test(row.subList(0, 1));
+    // assert
+    assertThat(tableRow).isTrue();
+    assertThat(reorderedRow).isTrue();
+    assertThat(partialRow).isFalse();
+    assertThat(fallbackCalls).hasValue(1);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RowJexlContextTest {
+
+  private final CombineItem itemA =
+      CombineItem.builder().value("A1").tag("new").property("homeserver", "X").build();
+  private final CombineItem itemB =
+      CombineItem.builder().value("B1").tag("new").tag("old").property("homeserver", "Y").build();
+  private final RowJexlContext context = new RowJexlContext();
+
+  @Test
+  void shouldResolveColumnsOfBoundRow() {
+    // act
+    context.bind(List.of(new TableCell("A", itemA), new TableCell("B", itemB)));
+    // assert
+    assertThat(context.get("A")).isSameAs(itemA);
+    assertThat(context.get("B")).isSameAs(itemB);
+    assertThat(context.get("columnCount")).isEqualTo(2);
+    assertThat(context.has("C")).isFalse();
+  }
+
+  @Test
+  void shouldResolveColumnsAtOtherPositions() {
+    // arrange
+    context.bind(List.of(new TableCell("A", itemA), new TableCell("B", itemB)));
+    context.get("B");
+    // act
+    context.bind(List.of(new TableCell("B", itemA)));
+    // assert
+    assertThat(context.get("B")).isSameAs(itemA);
+    assertThat(context.has("A")).isFalse();
+  }
+
+  @Test
+  void shouldComputeAggregatesPerRow() {
+    // arrange
+    context.bind(List.of(new TableCell("A", itemA), new TableCell("B", itemB)));
+    context.get("allTags");
+    // act
+    context.bind(List.of(new TableCell("A", itemA)));
+    // assert
+    assertThat(context.get("allTags")).isEqualTo(Map.of("new", 1));
+    assertThat(context.get("allProperties")).isEqualTo(Map.of("homeserver", Set.of("X")));
+  }
+
+  @Test
+  void shouldForgetRowAndVariablesWhenCleared() {
+    // arrange
+    context.bind(List.of(new TableCell("A", itemA)));
+    context.set("x", 1);
+    // act
+    context.clear();
+    // assert
+    assertThat(context.has("A")).isFalse();
+    assertThat(context.has("x")).isFalse();
+  }
+}
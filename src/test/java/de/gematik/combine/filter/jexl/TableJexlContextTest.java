@@ -0,0 +1,85 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.jexl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TableJexlContextTest {
+
+  private final List<List<TableCell>> table =
+      List.of(
+          List.of(cell("A", "A1", "X"), cell("B", "B1", "X")),
+          List.of(cell("A", "A2", "Y"), cell("B", "B1", "X")),
+          List.of(cell("A", "A1", "X"), cell("B", "B2", "Y")));
+
+  private static TableCell cell(String header, String value, String homeserver) {
+    return new TableCell(
+        header,
+        CombineItem.builder().value(value).tag(value).property("homeserver", homeserver).build());
+  }
+
+  @Test
+  void shouldProvideColumnsAndCounts() {
+    // act
+    TableJexlContext context = new TableJexlContext(table);
+    // assert
+    assertThat(context.getColumns())
+        .extracting(JexlFilterColumn::getHeader)
+        .containsExactly("A", "B");
+    assertThat(context.get("rowCount")).isEqualTo(3);
+    assertThat(context.get("columnCount")).isEqualTo(2);
+    assertThat(context.has("C")).isFalse();
+  }
+
+  @Test
+  void shouldCollectColumnAggregatesOnce() {
+    // arrange
+    JexlFilterColumn column = (JexlFilterColumn) new TableJexlContext(table).get("A");
+    // act
+    var properties = column.getProperties();
+    var tags = column.getTags();
+    // assert
+    assertThat(properties.get("homeserver").count("X")).isEqualTo(2);
+    assertThat(properties.get("homeserver").count("Y")).isEqualTo(1);
+    assertThat(properties.get("missing").count()).isZero();
+    assertThat(tags.count()).isEqualTo(3);
+    assertThat(tags.distinct().count()).isEqualTo(2);
+    assertThat(column.getProperties()).isSameAs(properties);
+    assertThat(column.getTags()).isSameAs(tags);
+  }
+
+  @Test
+  void shouldEvaluateTableExpressions() {
+    // arrange
+    JexlFilter filter =
+        new JexlFilter("A.properties[\"homeserver\"].distinct().count() * rowCount");
+    // act
+    int result = filter.evaluate(new TableJexlContext(table));
+    // assert
+    assertThat(result).isEqualTo(6);
+  }
+}
@@ -20,11 +20,11 @@
 
 package de.gematik.combine.filter.table;
 
-import static de.gematik.utils.MockPluginLog.withMockedPluginLog;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.ItemDictionary;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
 import java.util.stream.Stream;
@@ -60,7 +60,7 @@ class MaxSameColumnPropertyFilterTest {
     MaxSameColumnPropertyFilter filter =
         new MaxSameColumnPropertyFilter(COLUMN_NAME, PROPERTY_NAME, 1);
     // act
-    List<List<TableCell>> result = withMockedPluginLog(() -> filter.apply(table()));
+    List<List<TableCell>> result = filter.apply(table());
 
     // assert
     assertThat(result)
@@ -75,11 +75,29 @@ class MaxSameColumnPropertyFilterTest {
     MaxSameColumnPropertyFilter filter =
         new MaxSameColumnPropertyFilter(COLUMN_NAME, PROPERTY_NAME, 2);
     // act
-    List<List<TableCell>> result = withMockedPluginLog(() -> filter.apply(table()));
+    List<List<TableCell>> result = filter.apply(table());
 
     // assert
     assertThat(result)
         .flatExtracting(row -> row.stream().map(TableCell::getValue).collect(toList()))
         .containsExactly("A", "B", "C", "D", "F");
   }
+
+  @Test
+  @SneakyThrows
+  void shouldCountFrozenAndUnfrozenItems() {
+    // arrange
+    List<List<TableCell>> table = table();
+    ItemDictionary.freeze(
+        List.of(table.get(0).get(0).getCombineItem(), table.get(1).get(0).getCombineItem()));
+    MaxSameColumnPropertyFilter filter =
+        new MaxSameColumnPropertyFilter(COLUMN_NAME, PROPERTY_NAME, 1);
+    // act
+    List<List<TableCell>> result = filter.apply(table);
+
+    // assert
+    assertThat(result)
+        .flatExtracting(row -> row.stream().map(TableCell::getValue).collect(toList()))
+        .containsExactly("A", "B", "C");
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.filter.table;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RowKeySetTest {
+
+  private List<TableCell> row(String value) {
+    return List.of(new TableCell("A", CombineItem.builder().value(value).build()));
+  }
+
+  @Test
+  void shouldVerifyRowsWithCollidingHashes() {
+    // arrange
+    RowKeySet rowKeySet =
+        new RowKeySet(
+            row -> 42, (row, other) -> row.get(0).getValue().equals(other.get(0).getValue()));
+    // act
+    List<Boolean> added =
+        IntStream.range(0, 200)
+            .mapToObj(i -> rowKeySet.add(row("value" + i % 100)))
+            .collect(toList());
+    // assert
+    assertThat(added.subList(0, 100)).containsOnly(true);
+    assertThat(added.subList(100, 200)).containsOnly(false);
+  }
+
+  @Test
+  void shouldKeepRowsWhileGrowing() {
+    // arrange
+    RowKeySet rowKeySet =
+        new RowKeySet(
+            row -> RowKeySet.mix(row.get(0).getValue().hashCode()),
+            (row, other) -> row.get(0).getValue().equals(other.get(0).getValue()));
+    IntStream.range(0, 10000).forEach(i -> rowKeySet.add(row("value" + i)));
+    // act
+    boolean addedAgain = IntStream.range(0, 10000).anyMatch(i -> rowKeySet.add(row("value" + i)));
+    // assert
+    assertThat(addedAgain).isFalse();
+  }
+}
@@ -22,6 +22,10 @@ package de.gematik.combine.filter.table.cell;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.ItemDictionary;
+import de.gematik.combine.model.TableCell;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +43,25 @@ class JexlCellFilterTest {
     // assert
     assertThat(combined).isNotNull();
   }
+
+  @Test
+  @SneakyThrows
+  void shouldFilterFrozenItemsByIndex() {
+    // arrange
+    CombineItem client = CombineItem.builder().value("A1").tag("client").build();
+    CombineItem orgAdmin = CombineItem.builder().value("A2").tag("orgAdmin").build();
+    CombineItem notFrozen = CombineItem.builder().value("A3").tag("client").build();
+    ItemDictionary.freeze(List.of(client, orgAdmin));
+    JexlCellFilter filter = new JexlCellFilter("A", "A.hasTag(\"client\")");
+    // act
+    boolean clientPassed = filter.test(new TableCell("A", client));
+    boolean orgAdminPassed = filter.test(new TableCell("A", orgAdmin));
+    boolean notFrozenPassed = filter.test(new TableCell("A", notFrozen));
+    boolean otherColumnPassed = filter.test(new TableCell("B", orgAdmin));
+    // assert
+    assertThat(clientPassed).isTrue();
+    assertThat(orgAdminPassed).isFalse();
+    assertThat(notFrozenPassed).isTrue();
+    assertThat(otherColumnPassed).isTrue();
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.filter.table.cell;
+
+import static de.gematik.combine.model.properties.Version.getSemanticVersion;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.gematik.combine.execution.ProcessingContext;
+import de.gematik.combine.filter.Filters;
+import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.TableCell;
+import de.gematik.combine.util.CompareOperator;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+
+class VersionFilterTest {
+
+  private static final String HEADER = "A";
+
+  private static TableCell cell(String property, String version) {
+    return new TableCell(
+        HEADER, CombineItem.builder().value("A1").property(property, version).build());
+  }
+
+  @Test
+  void shouldTestDefaultVersionPropertyWithoutContext() {
+    // arrange
+    VersionFilter filter = new VersionFilter(CompareOperator.GE, getSemanticVersion("1.2"));
+    // act
+    boolean newerPassed = filter.test(cell("version", "1.3"));
+    boolean olderPassed = filter.test(cell("version", "1.1"));
+    boolean missingPassed = filter.test(cell("otherVersion", "1.3"));
+    // assert
+    assertThat(newerPassed).isTrue();
+    assertThat(olderPassed).isFalse();
+    assertThat(missingPassed).isFalse();
+  }
+
+  @Test
+  void shouldPassContextToCombinedCellFilters() {
+    // arrange
+    Filters filters = new Filters();
+    filters.addCellFilter(
+        HEADER, new VersionFilter(CompareOperator.GE, getSemanticVersion("1.2")));
+    filters.addCellFilter(HEADER, new JexlCellFilter(HEADER, "A.value == 'A1'"));
+    ProcessingContext context = new ProcessingContext(new SystemStreamLog(), "otherVersion");
+    // act
+    CellFilter combined = filters.combineCellFilters().get(HEADER);
+    // assert
+    assertThat(combined.test(cell("otherVersion", "1.3"), context)).isTrue();
+    assertThat(combined.test(cell("otherVersion", "1.1"), context)).isFalse();
+    assertThat(combined.test(cell("version", "1.3"))).isTrue();
+  }
+}
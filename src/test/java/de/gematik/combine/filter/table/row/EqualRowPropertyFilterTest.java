@@ -26,6 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import de.gematik.combine.model.CombineItem;
+import de.gematik.combine.model.ItemDictionary;
 import de.gematik.combine.model.TableCell;
 import java.util.List;
 import java.util.stream.Stream;
@@ -72,4 +73,30 @@ class EqualRowPropertyFilterTest {
     // assert
     assertThat(filtered).isEqualTo(expectedFiltered);
   }
+
+  @ParameterizedTest
+  @MethodSource("testParameter")
+  @SneakyThrows
+  void shouldFilterFrozenItems(boolean expectedFiltered, List<TableCell> row) {
+    // arrange
+    ItemDictionary.freeze(row.stream().map(TableCell::getCombineItem).collect(toList()));
+    EqualRowPropertyFilter filter = new EqualRowPropertyFilter(PROPERTY_NAME);
+    // act
+    boolean filtered = filter.test(row);
+    // assert
+    assertThat(filtered).isEqualTo(expectedFiltered);
+  }
+
+  @ParameterizedTest
+  @MethodSource("testParameter")
+  @SneakyThrows
+  void shouldFilterPartlyFrozenItems(boolean expectedFiltered, List<TableCell> row) {
+    // arrange
+    ItemDictionary.freeze(List.of(row.get(0).getCombineItem()));
+    EqualRowPropertyFilter filter = new EqualRowPropertyFilter(PROPERTY_NAME);
+    // act
+    boolean filtered = filter.test(row);
+    // assert
+    assertThat(filtered).isEqualTo(expectedFiltered);
+  }
 }
@@ -20,6 +20,7 @@
 
 package de.gematik.combine.filter.table.row;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -105,4 +106,45 @@ class JexlRowFilterTest {
         .hasMessageContainingAll(
             "Could not evaluate expression 'expression'", "variable 'expression' is undefined");
   }
+
+  @Test
+  void shouldNotAccumulateTagsOfPreviousRows() {
+    // arrange
+    JexlRowFilter filter = new JexlRowFilter("allTags.size()==2");
+    filter.test(tableCells);
+    // act
+    boolean actualMatch = filter.test(tableCells.subList(0, 1));
+    // assert
+    assertThat(actualMatch).isTrue();
+  }
+
+  @Test
+  void shouldRequireReferencedColumns() {
+    // arrange
+    JexlRowFilter filter = new JexlRowFilter("A.hasTag(\"orgAdmin\")");
+    // act
+    List<String> requiredColumns = filter.getRequiredColumns(List.of("A", "B"));
+    // assert
+    assertThat(requiredColumns).containsExactly("A");
+  }
+
+  @Test
+  void shouldNotRequireColumnsOnlyContainedInOtherNamesOrLiterals() {
+    // arrange
+    JexlRowFilter filter = new JexlRowFilter("AB.value == \"A\"");
+    // act
+    List<String> requiredColumns = filter.getRequiredColumns(List.of("A", "AB"));
+    // assert
+    assertThat(requiredColumns).containsExactly("AB");
+  }
+
+  @Test
+  void shouldRequireAllColumnsForRowContextVariables() {
+    // arrange
+    JexlRowFilter filter = new JexlRowFilter("A.hasTag(\"orgAdmin\") && columnCount == 2");
+    // act
+    List<String> requiredColumns = filter.getRequiredColumns(List.of("A", "B"));
+    // assert
+    assertThat(requiredColumns).containsExactly("A", "B");
+  }
 }
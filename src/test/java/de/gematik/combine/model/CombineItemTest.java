@@ -20,13 +20,14 @@
 
 package de.gematik.combine.model;
 
-import static de.gematik.utils.MockPluginLog.withMockedPluginLog;
+import static de.gematik.combine.model.CombineItem.DEFAULT_PROPERTY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
-import static org.mockito.Mockito.verify;
 
-import de.gematik.utils.MockPluginLog;
+import de.gematik.combine.model.properties.Version;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class CombineItemTest {
@@ -39,10 +40,60 @@ class CombineItemTest {
 
   @Test
   void gettingNonExistingPropertyShouldNotThrowException() {
-    assertThatNoException()
-        .isThrownBy(() -> withMockedPluginLog(() -> noPropertiesItem.getProperties().get(KEY)));
-    verify(MockPluginLog.getMock())
-        .info(String.format("item %s does not have property %s", VALUE, KEY));
+    assertThatNoException().isThrownBy(() -> noPropertiesItem.getProperties().get(KEY));
+    assertThat(noPropertiesItem.missingProperties()).containsExactly(KEY);
+  }
+
+  @Test
+  void missingPropertyShouldBeRecordedOncePerItem() {
+    // act
+    noPropertiesItem.getProperties().get(KEY);
+    noPropertiesItem.getProperty(KEY);
+    noPropertiesItem.getProperty("ANOTHER_KEY");
+    secondItem.getProperty(KEY);
+    // assert
+    assertThat(noPropertiesItem.missingProperties()).containsExactly("ANOTHER_KEY", KEY);
+    assertThat(secondItem.missingProperties()).containsExactly(KEY);
+  }
+
+  @Test
+  void shouldReusePropertiesView() {
+    // arrange
+    CombineItem item = CombineItem.builder().value(VALUE).property("key", "value").build();
+    // act
+    Map<String, String> properties = item.getProperties();
+    // assert
+    assertThat(item.getProperties()).isSameAs(properties);
+    assertThat(item.getProperty("key")).isEqualTo("value");
+    item.setProperties(Map.of("key", "other"));
+    assertThat(item.getProperties()).isNotSameAs(properties).containsEntry("key", "other");
+  }
+
+  @Test
+  void shouldReadPropertiesViewFromManyThreads() {
+    // arrange
+    CombineItem item = CombineItem.builder().value(VALUE).property("key", "value").build();
+    // act
+    List<String> values =
+        IntStream.range(0, 1000)
+            .parallel()
+            .mapToObj(i -> item.getProperties().get(i % 2 == 0 ? "key" : "missing"))
+            .toList();
+    // assert
+    assertThat(values).hasSize(1000).containsOnly("value", DEFAULT_PROPERTY);
+    assertThat(item.missingProperties()).containsExactly("missing");
+  }
+
+  @Test
+  void shouldParseVersionOnlyOnce() {
+    // arrange
+    CombineItem item = CombineItem.builder().value(VALUE).property("version", "1.2.3").build();
+    // act
+    Version version = item.getVersion("version");
+    // assert
+    assertThat(item.getVersion("version")).isSameAs(version).hasToString("1.2.3");
+    item.setProperties(Map.of("version", "2.0"));
+    assertThat(item.getVersion("version")).hasToString("2.0");
   }
 
   @Test
@@ -0,0 +1,122 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.model;
+
+import static de.gematik.combine.model.ItemDictionary.MISSING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ItemDictionaryTest {
+
+  private final CombineItem first =
+      CombineItem.builder().value("A").tag("client").property("homeserver", "X").build();
+  private final CombineItem second =
+      CombineItem.builder()
+          .value("B")
+          .tag("orgAdmin")
+          .property("homeserver", "X")
+          .property("version", "1.0.0")
+          .build();
+
+  @Test
+  void shouldInternKeysValuesAndTags() {
+    // act
+    ItemDictionary dictionary = ItemDictionary.freeze(List.of(first, second));
+    // assert
+    assertThat(dictionary.keyCount()).isEqualTo(2);
+    assertThat(dictionary.valueCount()).isEqualTo(2);
+    assertThat(dictionary.tagCount()).isEqualTo(2);
+    assertThat(dictionary.key(dictionary.keyId("version"))).isEqualTo("version");
+    assertThat(dictionary.value(dictionary.valueId("X"))).isEqualTo("X");
+    assertThat(dictionary.tag(dictionary.tagId("client"))).isEqualTo("client");
+    assertThat(dictionary.keyId("unknown")).isEqualTo(MISSING);
+  }
+
+  @Test
+  void shouldAccessFrozenPropertiesAndTagsById() {
+    // arrange
+    ItemDictionary dictionary = ItemDictionary.freeze(List.of(first, second));
+    int homeserver = dictionary.keyId("homeserver");
+    int version = dictionary.keyId("version");
+    // act
+    FrozenItem frozenFirst = first.frozen();
+    FrozenItem frozenSecond = second.frozen();
+    // assert
+    assertThat(frozenFirst.getDictionary()).isSameAs(dictionary);
+    assertThat(frozenFirst.valueId(homeserver)).isEqualTo(frozenSecond.valueId(homeserver));
+    assertThat(frozenFirst.valueId(version)).isEqualTo(MISSING);
+    assertThat(frozenSecond.valueId(version)).isEqualTo(dictionary.valueId("1.0.0"));
+    assertThat(frozenFirst.valueId(MISSING)).isEqualTo(MISSING);
+    assertThat(frozenFirst.hasTag(dictionary.tagId("client"))).isTrue();
+    assertThat(frozenFirst.hasTag(dictionary.tagId("orgAdmin"))).isFalse();
+    assertThat(frozenFirst.hasTag(MISSING)).isFalse();
+  }
+
+  @Test
+  void shouldDropFrozenItemIfPropertiesAreReplaced() {
+    // arrange
+    ItemDictionary.freeze(List.of(first));
+    // act
+    first.setProperties(Map.of("homeserver", "Y"));
+    // assert
+    assertThat(first.frozen()).isNull();
+    assertThat(second.frozen()).isNull();
+  }
+
+  @Test
+  void shouldIndexItemsByTagAndProperty() {
+    // act
+    ItemDictionary dictionary = ItemDictionary.freeze(List.of(first, second));
+    // assert
+    assertThat(first.frozen().getOrdinal()).isZero();
+    assertThat(second.frozen().getOrdinal()).isEqualTo(1);
+    assertThat(dictionary.itemCount()).isEqualTo(2);
+    assertThat(dictionary.itemsWithTag("client")).isEqualTo(bits(0));
+    assertThat(dictionary.itemsWithTag("unknown")).isEqualTo(bits());
+    assertThat(dictionary.itemsWithProperty("homeserver")).isEqualTo(bits(0, 1));
+    assertThat(dictionary.itemsWithProperty("version")).isEqualTo(bits(1));
+    assertThat(dictionary.itemsWithPropertyValue("homeserver", "X")).isEqualTo(bits(0, 1));
+    assertThat(dictionary.itemsWithPropertyValue("version", "X")).isEqualTo(bits());
+    assertThat(dictionary.itemsWithPropertyValue("unknown", "X")).isEqualTo(bits());
+  }
+
+  @Test
+  void shouldReturnCopiesOfIndex() {
+    // arrange
+    ItemDictionary dictionary = ItemDictionary.freeze(List.of(first, second));
+    // act
+    dictionary.itemsWithTag("client").clear();
+    // assert
+    assertThat(dictionary.itemsWithTag("client")).isEqualTo(bits(0));
+  }
+
+  private static BitSet bits(int... ordinals) {
+    BitSet bits = new BitSet();
+    Arrays.stream(ordinals).forEach(bits::set);
+    return bits;
+  }
+}
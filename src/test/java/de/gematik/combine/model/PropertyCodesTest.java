@@ -0,0 +1,81 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.combine.model;
+
+import static de.gematik.combine.model.PropertyCodes.NOT_ENCODED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PropertyCodesTest {
+
+  private static final String PROPERTY = "homeserver";
+
+  private final CombineItem a = CombineItem.builder().value("A").property(PROPERTY, "X").build();
+  private final CombineItem b = CombineItem.builder().value("B").property(PROPERTY, "X").build();
+  private final CombineItem c = CombineItem.builder().value("C").property(PROPERTY, "Y").build();
+  private final CombineItem d = CombineItem.builder().value("D").build();
+  private final PropertyCodes codes = new PropertyCodes(PROPERTY);
+
+  @Test
+  void shouldEncodeEqualValuesToEqualCodes() {
+    // arrange
+    ItemDictionary dictionary = ItemDictionary.freeze(List.of(a, b, c, d));
+    // act
+    int codeA = codes.code(a, dictionary);
+    int codeB = codes.code(b, dictionary);
+    int codeC = codes.code(c, dictionary);
+    int codeD = codes.code(d, dictionary);
+    // assert
+    assertThat(codeA).isEqualTo(codeB).isNotEqualTo(codeC).isNotEqualTo(codeD);
+    assertThat(codeD).isNotEqualTo(codeC).isEqualTo(dictionary.valueCount());
+    assertThat(codes.codeCount(dictionary)).isEqualTo(dictionary.valueCount() + 1);
+  }
+
+  @Test
+  void shouldEncodeUnfrozenItemsByValue() {
+    // arrange
+    ItemDictionary dictionary = ItemDictionary.freeze(List.of(a));
+    CombineItem unknown = CombineItem.builder().value("E").property(PROPERTY, "Z").build();
+    // act
+    int codeB = codes.code(b, dictionary);
+    int codeD = codes.code(d, dictionary);
+    int codeUnknown = codes.code(unknown, dictionary);
+    // assert
+    assertThat(codeB).isEqualTo(codes.code(a, dictionary));
+    assertThat(codeD).isEqualTo(dictionary.valueCount());
+    assertThat(codeUnknown).isEqualTo(NOT_ENCODED);
+  }
+
+  @Test
+  void shouldFindDictionaryOfFirstFrozenCell() {
+    // arrange
+    ItemDictionary dictionary = ItemDictionary.freeze(List.of(b));
+    List<TableCell> row = List.of(new TableCell("A", a), new TableCell("B", b));
+    // act
+    ItemDictionary found = PropertyCodes.dictionaryOf(row);
+    // assert
+    assertThat(found).isSameAs(dictionary);
+    assertThat(PropertyCodes.dictionaryOf(List.of(new TableCell("C", c)))).isNull();
+  }
+}
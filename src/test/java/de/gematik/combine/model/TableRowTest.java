@@ -0,0 +1,91 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TableRowTest {
+
+  private final CombineItem item1 = CombineItem.builder().value("Api1").build();
+  private final CombineItem item2 = CombineItem.builder().value("Api2").build();
+  private final List<String> columns = List.of("A", "B");
+  private final TableSchema schema =
+      new TableSchema(
+          columns,
+          List.of(
+              List.of(new TableCell("A", item1), new TableCell("A", item2)),
+              List.of(new TableCell("B", item2))));
+
+  @Test
+  void shouldBeEqualToListOfSameCells() {
+    // act
+    TableRow row = schema.row(new int[] {schema.itemId(item1), schema.itemId(item2)});
+    // assert
+    assertThat(row)
+        .isEqualTo(List.of(new TableCell("A", item1), new TableCell("B", item2)))
+        .hasSameHashCodeAs(List.of(new TableCell("A", item1), new TableCell("B", item2)));
+  }
+
+  @Test
+  void shouldFindCellsByColumnName() {
+    // arrange
+    TableRow row = schema.row(new int[] {schema.itemId(item2), schema.itemId(item2)});
+    List<TableCell> listRow = List.copyOf(row);
+    // act + assert
+    assertThat(TableRow.findCell(row, "B")).isEqualTo(new TableCell("B", item2));
+    assertThat(TableRow.findCell(row, "C")).isNull();
+    assertThat(TableRow.findCell(listRow, "B")).isEqualTo(new TableCell("B", item2));
+    assertThat(TableRow.findCell(listRow, "C")).isNull();
+  }
+
+  @Test
+  void shouldRejectItemsNotPreparedForColumn() {
+    // arrange
+    TableRow row = schema.row(new int[] {schema.itemId(item1), schema.itemId(item1)});
+    // act
+    assertThatThrownBy(() -> row.get(1))
+        // assert
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("not prepared for column B");
+  }
+
+  @Test
+  void shouldDistinguishEqualItemsWithDifferentTags() {
+    // arrange
+    CombineItem client = CombineItem.builder().value("Api1").tag("client").build();
+    CombineItem orgAdmin = CombineItem.builder().value("Api1").tag("orgAdmin").build();
+    TableSchema equalItemsSchema =
+        new TableSchema(
+            List.of("A"),
+            List.of(List.of(new TableCell("A", client), new TableCell("A", orgAdmin))));
+    // act
+    TableRow clientRow = equalItemsSchema.row(new int[] {equalItemsSchema.itemId(client)});
+    TableRow orgAdminRow = equalItemsSchema.row(new int[] {equalItemsSchema.itemId(orgAdmin)});
+    // assert
+    assertThat(equalItemsSchema.itemCount()).isEqualTo(2);
+    assertThat(clientRow.get(0).getCombineItem()).isSameAs(client);
+    assertThat(orgAdminRow.get(0).getCombineItem()).isSameAs(orgAdmin);
+  }
+}
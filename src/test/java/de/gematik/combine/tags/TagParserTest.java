@@ -30,11 +30,16 @@ import static de.gematik.combine.tags.parser.FilterTagParser.JEXL_ROW_FILTER_TAG
 import static de.gematik.combine.tags.parser.MaxRowsTagParser.MAX_ROWS_TAG;
 import static de.gematik.combine.tags.parser.MaxSameColumnPropertyTagParser.MAX_SAME_COLUMN_PROPERTY_TAG;
 import static de.gematik.combine.tags.parser.MinimalTableTagParser.MINIMAL_TABLE_TAG;
+import static de.gematik.combine.tags.parser.PairwiseTagParser.PAIRWISE_TAG;
 import static de.gematik.combine.tags.parser.RequirePropertyTagParser.REQUIRE_PROPERTY_TAG;
 import static de.gematik.combine.tags.parser.RequireTagTagParser.REQUIRE_TAG_TAG;
 import static de.gematik.combine.tags.parser.ShuffleTagParser.SHUFFLE_TAG;
+import static de.gematik.combine.tags.parser.TWiseTagParser.T_WISE_TAG;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import de.gematik.combine.filter.table.DistinctColumnFilter;
 import de.gematik.combine.filter.table.MaxRowsFilter;
@@ -51,6 +56,8 @@ import de.gematik.combine.filter.table.row.TableRowFilter;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -61,6 +68,8 @@ class TagParserTest {
 
   TagParser tagParser = new TagParser();
 
+  Log log = mock(Log.class);
+
   public static Stream<Arguments> configurationTags() {
     return Stream.of(
         arguments("@" + MAX_ROWS_TAG + "(1)"),
@@ -70,6 +79,9 @@ class TagParserTest {
         arguments("@" + MINIMAL_TABLE_TAG),
         arguments("@" + MINIMAL_TABLE_TAG + "(true)"),
         arguments("@" + MINIMAL_TABLE_TAG + "(false)"),
+        arguments("@" + PAIRWISE_TAG),
+        arguments("@" + PAIRWISE_TAG + "(false)"),
+        arguments("@" + T_WISE_TAG + "(2)"),
         arguments("@" + ALLOW_SELF_COMBINE_TAG),
         arguments("@" + ALLOW_SELF_COMBINE_TAG + "(true)"),
         arguments("@" + ALLOW_SELF_COMBINE_TAG + "(false)"),
@@ -82,7 +94,7 @@ class TagParserTest {
   @MethodSource("configurationTags")
   void shouldParseConfigurationTags(String tagString) {
     // act
-    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns);
+    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns, log);
     // assert
     assertThat(tagCollector.getConfigModifiers())
         .hasSize(1)
@@ -106,7 +118,7 @@ class TagParserTest {
   @MethodSource("tableFilterTags")
   void shouldParseTableFilterTags(String tagString, TableFilter expectedTag) {
     // act
-    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns);
+    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns, log);
     // assert
     assertThat(tagCollector.getTableFilters()).isEqualTo(List.of(expectedTag));
   }
@@ -121,32 +133,105 @@ class TagParserTest {
             "@" + DISTINCT_ROW_PROPERTY_TAG + "(prop1)", new DistinctRowPropertyFilter("prop1")),
         arguments("@" + EQUAL_ROW_PROPERTY_TAG + "(prop1)", new EqualRowPropertyFilter("prop1")),
         arguments(
-            "@" + JEXL_ROW_FILTER_TAG + "(A.hasTag(\"orgAdmin\")&&B.hasTag(\"orgAdmin\"))",
-            new JexlRowFilter("A.hasTag(\"orgAdmin\")&&B.hasTag(\"orgAdmin\")")));
+            "@" + JEXL_ROW_FILTER_TAG + "(A.hasTag(\"orgAdmin\")||B.hasTag(\"orgAdmin\"))",
+            new JexlRowFilter("A.hasTag(\"orgAdmin\")||B.hasTag(\"orgAdmin\")")),
+        arguments(
+            "@" + JEXL_ROW_FILTER_TAG + "(A.hasTag(\"orgAdmin\")||columnCount==2)",
+            new JexlRowFilter("A.hasTag(\"orgAdmin\")||columnCount==2")));
   }
 
   @ParameterizedTest
   @MethodSource("tableRowFilterTags")
   void shouldParseTableRowFilterTags(String tagString, TableRowFilter expectedTag) {
     // act
-    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns);
+    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns, log);
     // assert
     assertThat(tagCollector.getTableRowFilters()).isEqualTo(List.of(expectedTag));
   }
 
+  @Test
+  void shouldSplitConjunctsIntoCellAndRowFilters() {
+    // arrange
+    String tag =
+        "@"
+            + JEXL_ROW_FILTER_TAG
+            + "(A.properties.v == \"1\" && B.hasTag(\"x\") && A.value != B.value && A.hasTag(\"y\"))";
+    // act
+    ParsedTags tagCollector = tagParser.parseTags(List.of(tag), columns, log);
+    // assert
+    assertThat(tagCollector.getCellFilters())
+        .isEqualTo(
+            Map.of(
+                "A",
+                List.of(
+                    new JexlCellFilter("A", "(A.properties.v == \"1\") && (A.hasTag(\"y\"))")),
+                "B",
+                List.of(new JexlCellFilter("B", "B.hasTag(\"x\")"))));
+    assertThat(tagCollector.getTableRowFilters())
+        .isEqualTo(List.of(new JexlRowFilter("A.value != B.value")));
+  }
+
+  @Test
+  void shouldSplitConjunctsFromSourceText() {
+    // arrange
+    String tag =
+        "@"
+            + JEXL_ROW_FILTER_TAG
+            + "((A.value == \"a\\\"nd && b\" and B.hasTag('x')) && (A.url != null || false))";
+    // act
+    ParsedTags tagCollector = tagParser.parseTags(List.of(tag), columns, log);
+    // assert
+    assertThat(tagCollector.getCellFilters())
+        .isEqualTo(
+            Map.of(
+                "A",
+                List.of(
+                    new JexlCellFilter(
+                        "A", "(A.value == \"a\\\"nd && b\") && ((A.url != null || false))")),
+                "B",
+                List.of(new JexlCellFilter("B", "B.hasTag('x')"))));
+    assertThat(tagCollector.getTableRowFilters()).isEmpty();
+  }
+
+  @Test
+  void shouldNotSplitConjunctsThatMayFail() {
+    // arrange
+    String expression = "A.hasTag(\"y\") && B.properties.v.length() > 1";
+    String tag = "@" + JEXL_ROW_FILTER_TAG + "(" + expression + ")";
+    // act
+    ParsedTags tagCollector = tagParser.parseTags(List.of(tag), columns, log);
+    // assert
+    assertThat(tagCollector.getCellFilters()).isEmpty();
+    assertThat(tagCollector.getTableRowFilters()).isEqualTo(List.of(new JexlRowFilter(expression)));
+  }
+
+  @Test
+  void shouldWarnAboutUnknownAndMalformedTags() {
+    // act
+    ParsedTags tagCollector = tagParser.parseTags(List.of("@Unknown", "no tag"), columns, log);
+    // assert
+    assertThat(tagCollector.getTableFilters()).isEmpty();
+    verify(log).warn(startsWith("ignoring unknown tag: "));
+    verify(log).warn("no tag does not match format for tags");
+  }
+
   public static Stream<Arguments> cellFilterTags() {
     return Stream.of(
         arguments(
             "@" + JEXL_ROW_FILTER_TAG + "(A.hasTag(\"orgAdmin\"))",
             "A",
-            new JexlCellFilter("A", "A.hasTag(\"orgAdmin\")")));
+            new JexlCellFilter("A", "A.hasTag(\"orgAdmin\")")),
+        arguments(
+            "@" + JEXL_ROW_FILTER_TAG + "(A.properties[\"B\"]==\"B\")",
+            "A",
+            new JexlCellFilter("A", "A.properties[\"B\"]==\"B\"")));
   }
 
   @ParameterizedTest
   @MethodSource("cellFilterTags")
   void shouldParseCellFilterTags(String tagString, String expectedColumn, CellFilter expectedTag) {
     // act
-    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns);
+    ParsedTags tagCollector = tagParser.parseTags(List.of(tagString), columns, log);
     // assert
     assertThat(tagCollector.getCellFilters())
         .isEqualTo(Map.of(expectedColumn, List.of(expectedTag)));
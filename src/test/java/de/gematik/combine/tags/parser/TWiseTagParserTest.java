@@ -0,0 +1,91 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.combine.tags.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import de.gematik.combine.FilterConfiguration;
+import de.gematik.combine.tags.ConfigModifier;
+import de.gematik.combine.tags.ParsedTags;
+import de.gematik.combine.tags.TagParser.PreParsedTag;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class TWiseTagParserTest {
+
+  TWiseTagParser parser = new TWiseTagParser();
+  ParsedTags tagCollector;
+
+  @BeforeEach
+  void beforeEach() {
+    tagCollector = new ParsedTags(List.of("A", "B", "C"));
+  }
+
+  public static Stream<Arguments> invalidValues() {
+    return Stream.of(
+        arguments(""),
+        arguments("a"),
+        arguments("-1"),
+        arguments("2.5"),
+        arguments("0"),
+        arguments("1"),
+        arguments("4"),
+        arguments("99999999999"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidValues")
+  @SneakyThrows
+  void shouldRejectInvalidValues(String value) {
+    // arrange
+    PreParsedTag preParsedTag = new PreParsedTag("TestName", value);
+    // act
+    assertThatThrownBy(() -> parser.parseTagAndRegister(preParsedTag, tagCollector))
+        // assert
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("'" + value + "' is not a valid strength")
+        .hasMessageEndingWith("expected 2 to 3");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSetConfigField() {
+    // arrange
+    FilterConfiguration config = FilterConfiguration.builder().build();
+    // act
+    parser.parseTagAndRegister(new PreParsedTag("TestName", "3"), tagCollector);
+    // assert
+    List<ConfigModifier> configModifiers = tagCollector.getConfigModifiers();
+    assertThat(configModifiers)
+        .hasSize(1)
+        .map(configurationModifier -> configurationModifier.apply(config))
+        .element(0)
+        .isEqualTo(config.toBuilder().tWise(3).build());
+  }
+}
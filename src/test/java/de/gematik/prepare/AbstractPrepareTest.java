@@ -51,6 +51,5 @@ public abstract class AbstractPrepareTest {
     mojo.setItemsCreator(itemsCreator);
     mojo.setEnvVarFormat("");
     lenient().doReturn("{}").when(apiRequester).getApiResponse(any());
-    PrepareItemsMojo.setInstance(mojo);
   }
 }
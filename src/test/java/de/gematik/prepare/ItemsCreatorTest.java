@@ -20,7 +20,6 @@
 
 package de.gematik.prepare;
 
-import static de.gematik.utils.MockPluginLog.withMockedPluginLog;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
@@ -277,7 +276,7 @@ class ItemsCreatorTest extends AbstractPrepareTest {
               .build();
 
       // act
-      withMockedPluginLog(() -> creator.evaluateExpressions(combineItem, context));
+      creator.evaluateExpressions(combineItem, context);
 
       // assert
       assertThat(combineItem.getProperties().entrySet()).isEqualTo(expectedProperties.entrySet());
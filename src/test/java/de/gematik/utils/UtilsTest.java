@@ -20,7 +20,10 @@
 
 package de.gematik.utils;
 
+import static de.gematik.BaseMojo.GENERATED_COMBINE_ITEMS_DIR;
 import static de.gematik.utils.Utils.getItemsToCombine;
+import static de.gematik.utils.Utils.writeErrors;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -31,9 +34,11 @@ import de.gematik.combine.model.CombineItem;
 import java.io.File;
 import java.util.List;
 import lombok.SneakyThrows;
+import org.apache.commons.io.FileUtils;
 import org.apache.maven.plugin.logging.Log;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class UtilsTest {
 
@@ -57,4 +62,16 @@ class UtilsTest {
     List<CombineItem> combines = getItemsToCombine(f, mojo, false);
     combines.forEach(c -> assertThat(c.getValue()).startsWith("API-"));
   }
+
+  @Test
+  @SneakyThrows
+  void shouldWriteErrorLogIntoBaseDir(@TempDir File baseDir) {
+    // arrange
+    File errorLog =
+        new File(baseDir, GENERATED_COMBINE_ITEMS_DIR + File.separator + "errorLog.txt");
+    // act
+    writeErrors(baseDir, log, "UtilsTest", List.of("error1", "error2"));
+    // assert
+    assertThat(FileUtils.readFileToString(errorLog, UTF_8)).isEqualTo("error1\nerror2\n");
+  }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (Change Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+
+package de.gematik.utils.jexl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.MapContext;
+import org.junit.jupiter.api.Test;
+
+class JexlExpressionCacheTest {
+
+  private final JexlExpressionCache cache = new JexlExpressionCache(2);
+
+  @Test
+  void shouldCompileEqualSourceOnlyOnce() {
+    // act
+    JexlExpression first = cache.expression("1 + 1", true);
+    JexlExpression second = cache.expression(new String("1 + 1"), true);
+    // assert
+    assertThat(second).isSameAs(first);
+    assertThat(first.evaluate(new MapContext())).isEqualTo(2);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheExpressionsPerEngineConfiguration() {
+    // act
+    JexlExpression strict = cache.expression("unknown", true);
+    JexlExpression lenient = cache.expression("unknown", false);
+    // assert
+    assertThat(lenient).isNotSameAs(strict);
+    assertThat(lenient.evaluate(new MapContext())).isNull();
+    assertThatThrownBy(() -> strict.evaluate(new MapContext())).isInstanceOf(JexlException.class);
+    assertThat(cache.getMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCacheScriptsSeparately() {
+    // act
+    cache.expression("a + b", true);
+    var script = cache.script("a + b", true);
+    // assert
+    assertThat(script.getVariables()).hasSize(2);
+    assertThat(cache.getMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedExpression() {
+    // arrange
+    JexlExpression first = cache.expression("1", true);
+    cache.expression("2", true);
+    cache.expression("1", true);
+    cache.expression("3", true);
+    // act
+    JexlExpression firstAgain = cache.expression("1", true);
+    cache.expression("2", true);
+    // assert
+    assertThat(firstAgain).isSameAs(first);
+    assertThat(cache.getHits()).isEqualTo(2);
+    assertThat(cache.getMisses()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldNotCacheInvalidExpressions() {
+    // act
+    assertThatThrownBy(() -> cache.expression("1 +", true)).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> cache.expression("1 +", true)).isInstanceOf(JexlException.class);
+    // assert
+    assertThat(cache.getMisses()).isEqualTo(2);
+    assertThat(cache.getHits()).isZero();
+  }
+}